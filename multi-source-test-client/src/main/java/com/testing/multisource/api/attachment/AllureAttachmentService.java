@@ -2,31 +2,49 @@ package com.testing.multisource.api.attachment;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.qameta.allure.Allure;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
 @Component
 @RequiredArgsConstructor
 public class AllureAttachmentService implements AttachmentService {
     private final ObjectMapper objectMapper;
+    private final AllureAttachmentWriter attachmentWriter;
 
     public void attachJson(String name, Object data) {
         if (data == null) {
-            Allure.addAttachment(name, "application/json", "null", ".json");
+            attachmentWriter.submit(name, "application/json", ".json", 4, () -> "null".getBytes(StandardCharsets.UTF_8));
             return;
         }
+        // Only a compact snapshot is taken on the caller, so later changes to data do not leak into the attachment;
+        // pretty-printing and the file write happen on the writer.
+        byte[] json;
         try {
-            String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(data);
-            Allure.addAttachment(name, "application/json", json, ".json");
+            json = objectMapper.writeValueAsBytes(data);
         } catch (JsonProcessingException e) {
-            String content = "Failed to serialize to JSON: " + e.getMessage() + "\n\n" + data;
-            Allure.addAttachment(name, "text/plain", content, ".txt");
+            String failure = "Failed to serialize to JSON: " + e.getMessage() + "\n\n" + data;
+            attachmentWriter.submit(name, "text/plain", ".txt", utf8Length(failure), () -> utf8(failure));
+            return;
         }
+        // The compact size is a lower bound of the pretty-printed one, so it is enough to choose gzip up front.
+        attachmentWriter.submit(name, "application/json", ".json", json.length,
+                () -> objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(objectMapper.readTree(json)));
     }
 
     public void attachText(String name, String content) {
-        Allure.addAttachment(name, "text/plain", content, ".txt");
+        attachmentWriter.submit(name, "text/plain", ".txt", utf8Length(content), () -> utf8(content));
+    }
+
+    public void attachTextOnFailure(String name, String content) {
+        attachmentWriter.submitOnFailure(name, "text/plain", ".txt", utf8Length(content), () -> utf8(content));
+    }
+
+    // The text is built on the attachment writer, so content must capture only immutable state such as raw bytes.
+    public void attachText(AttachmentType type, String name, Supplier<String> content) {
+        attachmentWriter.submit(type.getPrefix() + ": " + name, "text/plain", ".txt", -1, () -> utf8(content.get()));
     }
 
     @Override
@@ -38,4 +56,18 @@ public class AllureAttachmentService implements AttachmentService {
     public void attachText(AttachmentType type, String name, String content) {
         attachText(type.getPrefix() + ": " + name, content);
     }
+
+    @Override
+    public void attachTextOnFailure(AttachmentType type, String name, String content) {
+        attachTextOnFailure(type.getPrefix() + ": " + name, content);
+    }
+
+    private static byte[] utf8(String content) {
+        return content != null ? content.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    // Character count stands in for the encoded size so compression is chosen without encoding on the caller thread.
+    private static long utf8Length(String content) {
+        return content != null ? content.length() : 0;
+    }
 }
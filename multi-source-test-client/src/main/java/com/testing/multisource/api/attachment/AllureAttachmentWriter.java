@@ -0,0 +1,343 @@
+package com.testing.multisource.api.attachment;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+// The caller only registers the attachment with its current Allure test/step and enqueues the content reference;
+// formatting, serialization, the attachment policy and the file write happen on a background writer, in batches.
+@Slf4j
+@Component
+public class AllureAttachmentWriter implements DisposableBean {
+    private static final int BATCH_SIZE = 64;
+    private static final Duration OFFER_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final int DEDUP_MIN_BYTES = 512;
+    private static final int DEDUP_MAX_ENTRIES = 100_000;
+
+    private static final String NO_TEST = "";
+
+    private static volatile AllureAttachmentWriter current;
+
+    private final boolean async;
+    private final AttachmentPolicy policy;
+    private final BlockingQueue<Task> queue;
+    private final Map<String, Map<String, String>> seenPayloadsByTest = new ConcurrentHashMap<>();
+    private final Map<String, List<Deferred>> deferredPayloads = new ConcurrentHashMap<>();
+    private final Object drainMonitor = new Object();
+    private final Map<String, Integer> pendingByTest = new HashMap<>();
+    private final Thread writerThread;
+    private long pending;
+
+    public AllureAttachmentWriter(@Value("${app.attachments.async:true}") boolean async,
+                                  @Value("${app.attachments.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${app.attachments.max-bytes:1048576}") int maxBytes,
+                                  @Value("${app.attachments.full-on-failure-only:false}") boolean fullOnFailureOnly,
+                                  @Value("${app.attachments.summary-bytes:16384}") int summaryBytes,
+                                  @Value("${app.attachments.dedup:false}") boolean dedup,
+                                  @Value("${app.attachments.gzip-threshold-bytes:0}") int gzipThresholdBytes) {
+        this.async = async;
+        this.policy = new AttachmentPolicy(maxBytes, fullOnFailureOnly, summaryBytes, dedup, gzipThresholdBytes);
+        this.queue = new ArrayBlockingQueue<>(Math.max(queueCapacity, 1));
+        if (async) {
+            this.writerThread = new Thread(this::writeLoop, "allure-attachment-writer");
+            this.writerThread.setDaemon(true);
+            this.writerThread.start();
+        } else {
+            this.writerThread = null;
+        }
+        current = this;
+    }
+
+    @FunctionalInterface
+    public interface Content {
+        byte[] render() throws Exception;
+    }
+
+    // knownSize is the payload size when the caller already has it (text), or -1; only then can gzip be chosen,
+    // because the attachment type has to be fixed while the caller's test/step is still current.
+    public void submit(String name, String mimeType, String extension, long knownSize, Content content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        boolean gzip = policy.gzip(knownSize);
+        String source = gzip
+                ? lifecycle.prepareAttachment(name, "application/gzip", extension + ".gz")
+                : lifecycle.prepareAttachment(name, mimeType, extension);
+        String testUuid = lifecycle.getCurrentTestCase().orElse(NO_TEST);
+        enqueue(new Task(lifecycle, source, name, mimeType, extension, gzip, testUuid,
+                policy.fullOnFailureOnly() && !NO_TEST.equals(testUuid), content));
+    }
+
+    // Diagnostics such as search criteria: with full-on-failure-only they are attached only to tests that did not pass.
+    public void submitOnFailure(String name, String mimeType, String extension, long knownSize, Content content) {
+        String testUuid = policy.fullOnFailureOnly() ? Allure.getLifecycle().getCurrentTestCase().orElse(null) : null;
+        if (testUuid == null) {
+            submit(name, mimeType, extension, knownSize, content);
+            return;
+        }
+        defer(testUuid, new Deferred(name, mimeType, extension, content));
+    }
+
+    private void enqueue(Task task) {
+        if (!async) {
+            write(task);
+            return;
+        }
+        synchronized (drainMonitor) {
+            pending++;
+            pendingByTest.merge(task.testUuid(), 1, Integer::sum);
+        }
+        boolean queued;
+        try {
+            queued = queue.offer(task, OFFER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        // Back-pressure: a full queue makes the producer write its own attachment instead of growing the backlog.
+        if (!queued) {
+            writeAndRelease(task);
+        }
+    }
+
+    public boolean drain(Duration timeout) {
+        return drain(timeout, () -> pending);
+    }
+
+    // Waits only for the attachments of one test, so a finishing test is not held up by its parallel neighbours.
+    public boolean drain(String testUuid, Duration timeout) {
+        return drain(timeout, () -> pendingByTest.getOrDefault(testUuid, 0));
+    }
+
+    private boolean drain(Duration timeout, LongSupplier pendingCount) {
+        if (!async) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (drainMonitor) {
+            while (pendingCount.getAsLong() > 0) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    log.warn("{} Allure attachments were still pending after {} ms",
+                            pendingCount.getAsLong(), timeout.toMillis());
+                    return false;
+                }
+                try {
+                    drainMonitor.wait(remainingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static void beforeTestWrite(TestResult result) {
+        AllureAttachmentWriter writer = current;
+        if (writer != null) {
+            writer.drain(result.getUuid(), DRAIN_TIMEOUT);
+            writer.seenPayloadsByTest.remove(result.getUuid());
+            writer.attachDeferredOnFailure(result);
+        }
+    }
+
+    // Payloads cut down to the summary size and failure-only diagnostics are attached only to tests that did not pass.
+    private void attachDeferredOnFailure(TestResult result) {
+        List<Deferred> deferred = deferredPayloads.remove(result.getUuid());
+        if (deferred == null || (result.getStatus() != Status.FAILED && result.getStatus() != Status.BROKEN)) {
+            return;
+        }
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        for (Deferred payload : deferred) {
+            byte[] bytes = render(payload.content());
+            if (bytes.length > policy.maxBytes()) {
+                bytes = truncate(bytes, policy.maxBytes());
+            }
+            boolean gzip = policy.gzip(bytes.length);
+            String extension = gzip ? payload.extension() + ".gz" : payload.extension();
+            String source = UUID.randomUUID() + "-attachment" + extension;
+            try {
+                lifecycle.writeAttachment(source, new ByteArrayInputStream(gzip ? gzip(bytes) : bytes));
+                result.getAttachments().add(new Attachment()
+                        .setName(payload.name())
+                        .setType(gzip ? "application/gzip" : payload.mimeType())
+                        .setSource(source));
+            } catch (RuntimeException e) {
+                log.warn("Failed to write full Allure attachment '{}': {}", payload.name(), e.getMessage());
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Task> batch = new ArrayList<>(BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            batch.forEach(this::writeAndRelease);
+            batch.clear();
+        }
+    }
+
+    private void writeAndRelease(Task task) {
+        try {
+            write(task);
+        } finally {
+            synchronized (drainMonitor) {
+                pending--;
+                if (pendingByTest.merge(task.testUuid(), -1, Integer::sum) == 0) {
+                    pendingByTest.remove(task.testUuid());
+                    drainMonitor.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void write(Task task) {
+        byte[] bytes = render(task.content());
+
+        int cap = policy.capFor(task.deferFull());
+        if (bytes.length > cap) {
+            if (task.deferFull()) {
+                defer(task.testUuid(), new Deferred(task.name() + " (full)", task.mimeType(), task.extension(), task.content()));
+            }
+            bytes = truncate(bytes, cap);
+        }
+
+        // Runs after the cap so the "(full)" deferral still sees the real size; repeats are looked up within one test.
+        if (policy.dedup() && bytes.length >= DEDUP_MIN_BYTES) {
+            bytes = deduplicate(task, bytes);
+        }
+
+        try {
+            task.lifecycle().writeAttachment(task.source(), new ByteArrayInputStream(task.gzip() ? gzip(bytes) : bytes));
+        } catch (RuntimeException e) {
+            log.warn("Failed to write Allure attachment {}: {}", task.source(), e.getMessage());
+        }
+    }
+
+    private byte[] deduplicate(Task task, byte[] bytes) {
+        Map<String, String> seenPayloads = seenPayloadsByTest.computeIfAbsent(task.testUuid(),
+                ignored -> new ConcurrentHashMap<>());
+        if (seenPayloads.size() > DEDUP_MAX_ENTRIES) {
+            seenPayloads.clear();
+        }
+        String hash = sha256(bytes);
+        String firstName = seenPayloads.putIfAbsent(hash, task.name());
+        if (firstName == null) {
+            return bytes;
+        }
+        return ("Same content as attachment '" + firstName + "' (sha256 " + hash + ", "
+                + bytes.length + " bytes)").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void defer(String testUuid, Deferred payload) {
+        deferredPayloads.computeIfAbsent(testUuid, ignored -> new CopyOnWriteArrayList<>()).add(payload);
+    }
+
+    private static byte[] render(Content content) {
+        try {
+            byte[] bytes = content.render();
+            return bytes != null ? bytes : new byte[0];
+        } catch (Exception e) {
+            return ("Failed to render attachment: " + e.getMessage()).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    // Keeps the first two thirds and the last third of the budget, cut on UTF-8 character boundaries.
+    static byte[] truncate(byte[] bytes, int cap) {
+        int headLength = utf8Boundary(bytes, cap * 2 / 3);
+        int tailStart = utf8Boundary(bytes, bytes.length - (cap - cap * 2 / 3));
+        String marker = "\n\n... [truncated " + (tailStart - headLength) + " of " + bytes.length + " bytes] ...\n\n";
+        byte[] markerBytes = marker.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(headLength + markerBytes.length + bytes.length - tailStart);
+        out.write(bytes, 0, headLength);
+        out.write(markerBytes, 0, markerBytes.length);
+        out.write(bytes, tailStart, bytes.length - tailStart);
+        return out.toByteArray();
+    }
+
+    private static int utf8Boundary(byte[] bytes, int index) {
+        int position = Math.max(0, Math.min(index, bytes.length));
+        while (position > 0 && position < bytes.length && (bytes[position] & 0xC0) == 0x80) {
+            position--;
+        }
+        return position;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(bytes.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to gzip attachment", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        drain(DRAIN_TIMEOUT);
+        if (writerThread != null) {
+            writerThread.interrupt();
+        }
+        deferredPayloads.clear();
+        seenPayloadsByTest.clear();
+        if (current == this) {
+            current = null;
+        }
+    }
+
+    private record Task(AllureLifecycle lifecycle,
+                        String source,
+                        String name,
+                        String mimeType,
+                        String extension,
+                        boolean gzip,
+                        String testUuid,
+                        boolean deferFull,
+                        Content content) {
+    }
+
+    private record Deferred(String name, String mimeType, String extension, Content content) {
+    }
+}
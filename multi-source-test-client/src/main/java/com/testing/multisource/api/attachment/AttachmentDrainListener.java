@@ -0,0 +1,14 @@
+package com.testing.multisource.api.attachment;
+
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.TestResult;
+
+// Registered through META-INF/services: a test result is written only after its queued attachments are on disk,
+// and only then does the final status decide whether the full payloads and failure-only diagnostics are attached.
+public class AttachmentDrainListener implements TestLifecycleListener {
+
+    @Override
+    public void beforeTestWrite(TestResult result) {
+        AllureAttachmentWriter.beforeTestWrite(result);
+    }
+}
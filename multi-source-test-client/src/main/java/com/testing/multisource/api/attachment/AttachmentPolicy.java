@@ -0,0 +1,23 @@
+package com.testing.multisource.api.attachment;
+
+// Attachment budget: payloads over maxBytes keep their head and tail; with fullOnFailureOnly, passing tests keep
+// only summaryBytes and failed ones get the full payload as well. gzipThresholdBytes = 0 disables compression.
+public record AttachmentPolicy(int maxBytes,
+                               boolean fullOnFailureOnly,
+                               int summaryBytes,
+                               boolean dedup,
+                               int gzipThresholdBytes) {
+
+    public AttachmentPolicy {
+        maxBytes = Math.max(maxBytes, 1024);
+        summaryBytes = Math.max(Math.min(summaryBytes, maxBytes), 1024);
+    }
+
+    int capFor(boolean summary) {
+        return summary ? summaryBytes : maxBytes;
+    }
+
+    boolean gzip(long size) {
+        return gzipThresholdBytes > 0 && size >= gzipThresholdBytes;
+    }
+}
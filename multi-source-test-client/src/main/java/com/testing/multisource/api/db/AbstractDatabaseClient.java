@@ -1,27 +1,63 @@
 package com.testing.multisource.api.db;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.awaitility.core.ConditionFactory;
 import org.awaitility.core.ConditionTimeoutException;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.testing.multisource.api.db.exceptions.DatabaseQueryTimeoutException;
 import com.testing.multisource.api.db.exceptions.DatabaseRecordNotFoundException;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import com.testing.multisource.api.attachment.AllureAttachmentService;
 import com.testing.multisource.api.attachment.AttachmentType;
 import static org.awaitility.Awaitility.await;
 
+@Slf4j
 public abstract class AbstractDatabaseClient {
-
     protected final AllureAttachmentService attachmentService;
+    private final TransactionTemplate pollTransaction;
+    private final List<DatabaseBatchLookup<?, ?>> batchLookups = new CopyOnWriteArrayList<>();
+    private MysqlBinlogChangeFeed changeFeed;
 
     protected AbstractDatabaseClient(AllureAttachmentService attachmentService) {
+        this(attachmentService, null);
+    }
+
+    // Each poll runs in its own short read-only transaction, so the connection goes back to the pool between
+    // polls and every poll starts a fresh snapshot that sees rows committed since the previous one.
+    protected AbstractDatabaseClient(AllureAttachmentService attachmentService,
+                                     PlatformTransactionManager transactionManager) {
         this.attachmentService = attachmentService;
+        if (transactionManager != null) {
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            template.setName(getClass().getSimpleName() + ".poll");
+            this.pollTransaction = template;
+        } else {
+            this.pollTransaction = null;
+        }
     }
 
     @Value("${app.db.retry-timeout-seconds}")
@@ -42,6 +78,53 @@ public abstract class AbstractDatabaseClient {
         this.retryPollDelayDuration = Duration.ofMillis(retryPollDelayMillis);
     }
 
+    @PreDestroy
+    public void closeBatchLookups() {
+        batchLookups.forEach(DatabaseBatchLookup::close);
+    }
+
+    protected final void useChangeFeed(MysqlBinlogChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    // Concurrent awaits on the same lookup share one IN-query per poll tick, e.g. repository::findAllById.
+    protected final <K, T> DatabaseBatchLookup<K, T> batchLookup(String name,
+                                                               Function<Collection<K>, ? extends Collection<T>> batchQuery,
+                                                               Function<T, K> keyOf) {
+        DatabaseBatchLookup<K, T> lookup = new DatabaseBatchLookup<>(name, batchQuery, keyOf, pollTransaction);
+        batchLookups.add(lookup);
+        return lookup;
+    }
+
+    protected final <K, T> T awaitBatchedOrFail(String description,
+                                                String attachmentNamePrefix,
+                                                DatabaseBatchLookup<K, T> lookup,
+                                                K key) {
+        Duration timeout = retryTimeoutDuration;
+        CompletableFuture<T> waiter = lookup.register(key, retryPollDelayDuration, retryPollIntervalDuration);
+        try {
+            T result = waiter.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            attachmentService.attachJson(AttachmentType.DB, attachmentNamePrefix + " - Found", result);
+            return result;
+        } catch (TimeoutException e) {
+            lookup.cancel(key, waiter);
+            String lastFailure = lookup.lastFailure();
+            attachmentService.attachText(AttachmentType.DB, attachmentNamePrefix + " - NOT Found (Timeout)",
+                    "Timeout after " + timeout + " (batched lookup '" + lookup.name() + "')"
+                            + (lastFailure != null ? "\nLast batch failure: " + lastFailure : ""));
+            throw new DatabaseRecordNotFoundException("Record not found within timeout for '" + description + "'", e);
+        } catch (InterruptedException e) {
+            lookup.cancel(key, waiter);
+            Thread.currentThread().interrupt();
+            throw new DatabaseQueryTimeoutException("Interrupted during DB await for '" + description + "'", e);
+        } catch (ExecutionException e) {
+            lookup.cancel(key, waiter);
+            attachmentService.attachText(AttachmentType.DB, attachmentNamePrefix + " - Error",
+                    "Error type: " + e.getCause().getClass().getName() + "\nMessage: " + e.getCause().getMessage());
+            throw new DatabaseQueryTimeoutException("Unexpected error during DB await for '" + description + "'", e.getCause());
+        }
+    }
+
     @SafeVarargs
     protected final <T> T awaitAndGetOrFail(String description,
                                            String attachmentNamePrefix,
@@ -57,7 +140,11 @@ public abstract class AbstractDatabaseClient {
                                            Supplier<Optional<T>> querySupplier,
                                            Duration timeout,
                                            Class<? extends Throwable>... ignoredExceptionsDuringAwait) {
-        Callable<Optional<T>> queryCallable = querySupplier::get;
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("DB await '{}' runs inside an active transaction: its connection stays pinned for the whole wait "
+                    + "and the transaction snapshot may hide the awaited row", description);
+        }
+        Callable<Optional<T>> queryCallable = () -> poll(querySupplier);
 
         try {
             ConditionFactory condition = await(description)
@@ -91,5 +178,141 @@ public abstract class AbstractDatabaseClient {
         }
     }
 
-}
+    // Scalar awaits: each poll is a single COUNT/EXISTS/SUM/MAX query, no entity is hydrated.
+    protected final long awaitCount(String description,
+                                    String attachmentNamePrefix,
+                                    Supplier<? extends Number> countQuery,
+                                    long expected) {
+        return awaitCount(description, attachmentNamePrefix, countQuery, count -> count == expected, "count == " + expected);
+    }
+
+    protected final long awaitCount(String description,
+                                    String attachmentNamePrefix,
+                                    Supplier<? extends Number> countQuery,
+                                    LongPredicate condition,
+                                    String conditionDescription) {
+        Number count = awaitScalar(description, attachmentNamePrefix, countQuery,
+                value -> condition.test(value.longValue()), conditionDescription);
+        return count.longValue();
+    }
+
+    protected final void awaitExists(String description,
+                                     String attachmentNamePrefix,
+                                     BooleanSupplier existsQuery) {
+        awaitScalar(description, attachmentNamePrefix, existsQuery::getAsBoolean, Boolean::booleanValue, "exists");
+    }
 
+    protected final <N extends Number> N awaitAggregate(String description,
+                                                        String attachmentNamePrefix,
+                                                        Supplier<N> aggregateQuery,
+                                                        Predicate<N> condition,
+                                                        String conditionDescription) {
+        return awaitScalar(description, attachmentNamePrefix, aggregateQuery, condition, conditionDescription);
+    }
+
+    // MAX(seq) >= n: the projection has caught up to (at least) the given sequence number.
+    protected final long awaitMonotonic(String description,
+                                        String attachmentNamePrefix,
+                                        Supplier<? extends Number> maxQuery,
+                                        long atLeast) {
+        Number max = awaitScalar(description, attachmentNamePrefix, maxQuery,
+                value -> value.longValue() >= atLeast, "max >= " + atLeast);
+        return max.longValue();
+    }
+
+    private <V> V awaitScalar(String description,
+                              String attachmentNamePrefix,
+                              Supplier<V> query,
+                              Predicate<? super V> condition,
+                              String conditionDescription) {
+        AtomicReference<V> lastObserved = new AtomicReference<>();
+        Supplier<Optional<V>> querySupplier = () -> {
+            V value = query.get();
+            lastObserved.set(value);
+            return Optional.ofNullable(value).filter(condition);
+        };
+        try {
+            return awaitAndGetOrFail(description + " [" + conditionDescription + "]", attachmentNamePrefix, querySupplier);
+        } catch (DatabaseRecordNotFoundException e) {
+            throw new DatabaseRecordNotFoundException("Condition '" + conditionDescription + "' not met for '"
+                    + description + "', last observed value: " + lastObserved.get(), e);
+        }
+    }
+
+    protected final <T> T cachedOrAwait(ReferenceDataCache cache,
+                                        String region,
+                                        Object key,
+                                        String description,
+                                        String attachmentNamePrefix,
+                                        Supplier<Optional<T>> querySupplier) {
+        Optional<T> cached = cache.getIfPresent(region, key);
+        if (cached.isPresent()) {
+            attachmentService.attachJson(AttachmentType.DB, attachmentNamePrefix + " - Found (cached)", cached.get());
+            return cached.get();
+        }
+        T result = awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        cache.put(region, key, result);
+        return result;
+    }
+
+    // With a connected change feed the read is repeated as soon as the binlog reports an insert or update of the
+    // watched row, and otherwise only at the feed's slow safety interval; the regular poll interval comes back when
+    // the feed disconnects. Without a feed this is a plain awaitAndGetOrFail.
+    protected final <T> T awaitRowAndGetOrFail(String description,
+                                               String attachmentNamePrefix,
+                                               String table,
+                                               String column,
+                                               Object value,
+                                               Supplier<Optional<T>> querySupplier) {
+        MysqlBinlogChangeFeed feed = changeFeed;
+        if (feed == null || !feed.isConnected()) {
+            return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        }
+
+        Duration timeout = retryTimeoutDuration;
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeout.toNanos();
+        Semaphore changed = new Semaphore(0);
+        String lastFailure = null;
+        try (MysqlBinlogChangeFeed.Watch ignored = feed.watch(table, column, value, changed::release)) {
+            while (true) {
+                changed.drainPermits();
+                try {
+                    Optional<T> result = poll(querySupplier);
+                    if (result.isPresent()) {
+                        attachmentService.attachJson(AttachmentType.DB, attachmentNamePrefix + " - Found", result.get());
+                        return result.get();
+                    }
+                } catch (org.springframework.dao.TransientDataAccessException e) {
+                    lastFailure = e.getMessage();
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                Duration fallback = feed.isConnected() ? feed.fallbackPollInterval() : retryPollIntervalDuration;
+                changed.tryAcquire(Math.min(remaining, fallback.toNanos()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseQueryTimeoutException("Interrupted during DB await for '" + description + "'", e);
+        } catch (RuntimeException e) {
+            attachmentService.attachText(AttachmentType.DB, attachmentNamePrefix + " - Error",
+                    "Error type: " + e.getClass().getName() + "\nMessage: " + e.getMessage());
+            throw new DatabaseQueryTimeoutException("Unexpected error during DB await for '" + description + "'", e);
+        }
+
+        boolean seenInBinlog = feed.changedSince(table, column, value, startedAt);
+        attachmentService.attachText(AttachmentType.DB, attachmentNamePrefix + " - NOT Found (Timeout)",
+                "Timeout after " + timeout + "\nBinlog change for " + table + "." + column + "=" + value + ": "
+                        + (seenInBinlog ? "seen" : "not seen")
+                        + (lastFailure != null ? "\nLast failure: " + lastFailure : ""));
+        throw new DatabaseRecordNotFoundException("Record not found within timeout for '" + description + "'");
+    }
+
+    private <T> Optional<T> poll(Supplier<Optional<T>> querySupplier) {
+        return pollTransaction != null
+                ? pollTransaction.execute(status -> querySupplier.get())
+                : querySupplier.get();
+    }
+}
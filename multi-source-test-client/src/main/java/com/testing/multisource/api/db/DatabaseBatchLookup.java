@@ -0,0 +1,155 @@
+package com.testing.multisource.api.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Slf4j
+public class DatabaseBatchLookup<K, T> implements AutoCloseable {
+    private static final int MAX_KEYS_PER_QUERY = 500;
+
+    private final String name;
+    private final Function<Collection<K>, ? extends Collection<T>> batchQuery;
+    private final Function<T, K> keyOf;
+    private final TransactionTemplate pollTransaction;
+    private final Map<K, List<CompletableFuture<T>>> waiters = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService scheduler;
+    private volatile String lastFailure;
+
+    DatabaseBatchLookup(String name,
+                        Function<Collection<K>, ? extends Collection<T>> batchQuery,
+                        Function<T, K> keyOf,
+                        TransactionTemplate pollTransaction) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.batchQuery = Objects.requireNonNull(batchQuery, "batchQuery");
+        this.keyOf = Objects.requireNonNull(keyOf, "keyOf");
+        this.pollTransaction = pollTransaction;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    String lastFailure() {
+        return lastFailure;
+    }
+
+    CompletableFuture<T> register(K key, Duration pollDelay, Duration pollInterval) {
+        CompletableFuture<T> waiter = new CompletableFuture<>();
+        waiters.compute(key, (ignored, pending) -> {
+            List<CompletableFuture<T>> target = pending != null ? pending : new CopyOnWriteArrayList<>();
+            target.add(waiter);
+            return target;
+        });
+        ensureStarted(pollDelay, pollInterval);
+        return waiter;
+    }
+
+    void cancel(K key, CompletableFuture<T> waiter) {
+        waiters.computeIfPresent(key, (ignored, pending) -> {
+            pending.remove(waiter);
+            return pending.isEmpty() ? null : pending;
+        });
+        waiter.cancel(false);
+    }
+
+    // One WHERE col IN (...) per tick for every key somebody is waiting on, however many tests are polling.
+    private void tick() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(waiters.keySet());
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_QUERY) {
+            List<K> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_QUERY, keys.size()));
+            Collection<T> rows;
+            try {
+                rows = pollTransaction != null
+                        ? pollTransaction.execute(status -> List.copyOf(batchQuery.apply(chunk)))
+                        : batchQuery.apply(chunk);
+            } catch (TransientDataAccessException e) {
+                lastFailure = e.getClass().getSimpleName() + ": " + e.getMessage();
+                log.warn("[{}] Batched lookup of {} keys failed: {}", name, chunk.size(), e.getMessage());
+                continue;
+            } catch (RuntimeException e) {
+                // Like awaitAndGetOrFail, only transient errors are retried; anything else fails the waiters now.
+                log.warn("[{}] Batched lookup of {} keys failed permanently: {}", name, chunk.size(), e.getMessage());
+                for (K key : chunk) {
+                    List<CompletableFuture<T>> pending = waiters.remove(key);
+                    if (pending != null) {
+                        pending.forEach(waiter -> waiter.completeExceptionally(e));
+                    }
+                }
+                continue;
+            }
+            if (rows == null) {
+                continue;
+            }
+            // Rows are matched back to the requested keys, not by equals(): MySQL compares with a case-insensitive
+            // collation and may return a key spelled differently from the one that was asked for.
+            Map<Object, List<K>> requested = new HashMap<>();
+            for (K key : chunk) {
+                requested.computeIfAbsent(normalize(key), ignored -> new ArrayList<>(1)).add(key);
+            }
+            for (T row : rows) {
+                List<K> keysOfRow = requested.get(normalize(keyOf.apply(row)));
+                if (keysOfRow == null) {
+                    continue;
+                }
+                for (K key : keysOfRow) {
+                    List<CompletableFuture<T>> pending = waiters.remove(key);
+                    if (pending != null) {
+                        pending.forEach(waiter -> waiter.complete(row));
+                    }
+                }
+            }
+        }
+    }
+
+    private static Object normalize(Object key) {
+        return key instanceof String text ? text.toLowerCase(Locale.ROOT) : key;
+    }
+
+    private void ensureStarted(Duration pollDelay, Duration pollInterval) {
+        if (scheduler != null) {
+            return;
+        }
+        synchronized (this) {
+            if (scheduler == null) {
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "db-batch-" + name);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(this::tick, Math.max(pollDelay.toMillis(), 0),
+                        Math.max(pollInterval.toMillis(), 1), TimeUnit.MILLISECONDS);
+                scheduler = executor;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+        }
+        waiters.values().forEach(pending -> pending.forEach(waiter -> waiter.cancel(false)));
+        waiters.clear();
+    }
+}
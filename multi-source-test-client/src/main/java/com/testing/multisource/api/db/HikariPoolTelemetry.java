@@ -0,0 +1,109 @@
+package com.testing.multisource.api.db;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-pool connection acquire telemetry. Long acquire waits mean the pool is starved; a fast acquire followed by a
+// long await means the system under test is slow to project the row.
+@Slf4j
+public class HikariPoolTelemetry implements MetricsTrackerFactory {
+    private static final long[] WAIT_BUCKETS_MS = {1, 5, 10, 50, 100, 500, 1000};
+
+    private final Duration waitWarnThreshold;
+    private final LongAdder[] waitHistogram = new LongAdder[WAIT_BUCKETS_MS.length + 1];
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private volatile String poolName = "unknown";
+    private volatile PoolStats poolStats;
+
+    public HikariPoolTelemetry(Duration waitWarnThreshold) {
+        this.waitWarnThreshold = waitWarnThreshold;
+        for (int i = 0; i < waitHistogram.length; i++) {
+            waitHistogram[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new Tracker();
+    }
+
+    public int activeConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getActiveConnections() : 0;
+    }
+
+    public int idleConnections() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getIdleConnections() : 0;
+    }
+
+    public int pendingThreads() {
+        PoolStats stats = poolStats;
+        return stats != null ? stats.getPendingThreads() : 0;
+    }
+
+    public String summary() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(poolName).append(": acquired=").append(acquired.sum())
+                .append(", timeouts=").append(timeouts.sum())
+                .append(", maxWait=").append(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get())).append("ms")
+                .append(", active=").append(activeConnections())
+                .append(", idle=").append(idleConnections())
+                .append(", pending=").append(pendingThreads())
+                .append(", wait histogram [");
+        for (int i = 0; i < waitHistogram.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(i < WAIT_BUCKETS_MS.length ? "<" + WAIT_BUCKETS_MS[i] : ">=" + WAIT_BUCKETS_MS[WAIT_BUCKETS_MS.length - 1])
+                    .append("ms=").append(waitHistogram[i].sum());
+        }
+        return builder.append(']').toString();
+    }
+
+    private void recordWait(long elapsedNanos) {
+        acquired.increment();
+        maxWaitNanos.accumulate(elapsedNanos);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        int bucket = 0;
+        while (bucket < WAIT_BUCKETS_MS.length && elapsedMillis >= WAIT_BUCKETS_MS[bucket]) {
+            bucket++;
+        }
+        waitHistogram[bucket].increment();
+        if (elapsedMillis >= waitWarnThreshold.toMillis()) {
+            log.warn("[{}] Waited {} ms for a DB connection (active={}, idle={}, pending={}): the pool is starved, "
+                            + "not the projection", poolName, elapsedMillis,
+                    activeConnections(), idleConnections(), pendingThreads());
+        }
+    }
+
+    private final class Tracker implements IMetricsTracker {
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            recordWait(elapsedAcquiredNanos);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            log.warn("[{}] DB connection request timed out (active={}, idle={}, pending={})",
+                    poolName, activeConnections(), idleConnections(), pendingThreads());
+        }
+
+        @Override
+        public void close() {
+            log.info("DB pool telemetry {}", summary());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.testing.multisource.api.db;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.Objects;
+
+// A JSON column kept as the raw string until a test actually asserts on it; polls that never match never parse it.
+public final class LazyJson extends JsonSerializable.Base {
+    private final String raw;
+    private final ObjectMapper objectMapper;
+    private volatile JsonNode tree;
+
+    private LazyJson(String raw, ObjectMapper objectMapper) {
+        this.raw = raw;
+        this.objectMapper = objectMapper;
+    }
+
+    public static LazyJson of(String raw, ObjectMapper objectMapper) {
+        return new LazyJson(raw, Objects.requireNonNull(objectMapper, "objectMapper"));
+    }
+
+    public String raw() {
+        return raw;
+    }
+
+    public boolean isNull() {
+        return raw == null || raw.isBlank();
+    }
+
+    public JsonNode tree() {
+        JsonNode current = tree;
+        if (current == null) {
+            try {
+                current = isNull() ? objectMapper.nullNode() : objectMapper.readTree(raw);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Failed to parse JSON column: " + e.getOriginalMessage(), e);
+            }
+            tree = current;
+        }
+        return current;
+    }
+
+    public <V> V as(Class<V> type) {
+        return isNull() ? null : objectMapper.convertValue(tree(), type);
+    }
+
+    public <V> V as(TypeReference<V> type) {
+        return isNull() ? null : objectMapper.convertValue(tree(), type);
+    }
+
+    // Attachments embed the column as-is instead of parsing it first.
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (isNull()) {
+            generator.writeNull();
+        } else {
+            generator.writeRawValue(raw);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer)
+            throws IOException {
+        serialize(generator, provider);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyJson other)) {
+            return false;
+        }
+        return Objects.equals(tree(), other.tree());
+    }
+
+    @Override
+    public int hashCode() {
+        return tree().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return raw;
+    }
+}
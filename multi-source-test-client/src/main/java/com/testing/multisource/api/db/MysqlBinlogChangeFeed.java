@@ -0,0 +1,235 @@
+package com.testing.multisource.api.db;
+
+import com.github.shyiko.mysql.binlog.BinaryLogClient;
+import com.github.shyiko.mysql.binlog.event.Event;
+import com.github.shyiko.mysql.binlog.event.EventType;
+import com.github.shyiko.mysql.binlog.event.TableMapEventData;
+import com.github.shyiko.mysql.binlog.event.TableMapEventMetadata;
+import com.github.shyiko.mysql.binlog.event.UpdateRowsEventData;
+import com.github.shyiko.mysql.binlog.event.WriteRowsEventData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+public class MysqlBinlogChangeFeed implements InitializingBean, DisposableBean {
+    private static final long CONNECT_TIMEOUT_MS = 5000;
+    private static final int RECENT_CHANGES_LIMIT = 10_000;
+
+    private final String unitName;
+    private final String schema;
+    private final Duration fallbackPollInterval;
+    private final BinaryLogClient client;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService dispatcher;
+    private final Map<Long, String> tablesById = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> columnsByTable = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> trackedColumns = new ConcurrentHashMap<>();
+    private final Map<String, List<Runnable>> watchers = new ConcurrentHashMap<>();
+    private final Map<String, Long> recentChanges = new LinkedHashMap<>(256, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > RECENT_CHANGES_LIMIT;
+        }
+    };
+
+    public MysqlBinlogChangeFeed(String unitName,
+                                 String host,
+                                 int port,
+                                 String schema,
+                                 String username,
+                                 String password,
+                                 long serverId,
+                                 Duration fallbackPollInterval,
+                                 DataSource dataSource) {
+        this.unitName = Objects.requireNonNull(unitName, "unitName");
+        this.schema = Objects.requireNonNull(schema, "schema");
+        this.fallbackPollInterval = Objects.requireNonNull(fallbackPollInterval, "fallbackPollInterval");
+        this.client = new BinaryLogClient(host, port, username, password);
+        this.client.setServerId(serverId);
+        this.client.registerEventListener(this::onEvent);
+        this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(dataSource, "dataSource"));
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "binlog-dispatch-" + unitName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // A failed connect only logs: awaits keep polling as if the feed were not configured.
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            client.connect(CONNECT_TIMEOUT_MS);
+            log.info("[{}] Tailing MySQL binlog of schema '{}' as server id {}", unitName, schema, client.getServerId());
+        } catch (Exception e) {
+            log.warn("[{}] MySQL binlog is not available, DB awaits fall back to polling: {}", unitName, e.getMessage());
+        }
+    }
+
+    // Safety poll of awaits while the feed is connected; events do the real work, so it can be much slower.
+    public Duration fallbackPollInterval() {
+        return fallbackPollInterval;
+    }
+
+    public boolean isConnected() {
+        return client.isConnected();
+    }
+
+    // Fires onChange for every inserted or updated row of the table whose column equals value.
+    // Column names are resolved here, on the caller, so the binlog reader never waits on JDBC.
+    public Watch watch(String table, String column, Object value, Runnable onChange) {
+        resolveColumnNames(table);
+        trackedColumns.computeIfAbsent(table, ignored -> ConcurrentHashMap.newKeySet()).add(column);
+        String key = indexKey(table, column, String.valueOf(value));
+        watchers.compute(key, (ignored, listeners) -> {
+            List<Runnable> target = listeners != null ? listeners : new CopyOnWriteArrayList<>();
+            target.add(onChange);
+            return target;
+        });
+        return () -> watchers.computeIfPresent(key, (ignored, listeners) -> {
+            listeners.remove(onChange);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    public boolean changedSince(String table, String column, Object value, long sinceNanos) {
+        Long changedAt;
+        synchronized (recentChanges) {
+            changedAt = recentChanges.get(indexKey(table, column, String.valueOf(value)));
+        }
+        return changedAt != null && changedAt - sinceNanos >= 0;
+    }
+
+    private void onEvent(Event event) {
+        EventType type = event.getHeader().getEventType();
+        try {
+            if (type == EventType.TABLE_MAP) {
+                TableMapEventData data = event.getData();
+                if (schema.equals(data.getDatabase())) {
+                    tablesById.put(data.getTableId(), data.getTable());
+                    rememberColumnNames(data);
+                }
+            } else if (EventType.isWrite(type)) {
+                WriteRowsEventData data = event.getData();
+                dispatch(data.getTableId(), data.getIncludedColumns(), data.getRows());
+            } else if (EventType.isUpdate(type)) {
+                UpdateRowsEventData data = event.getData();
+                dispatch(data.getTableId(), data.getIncludedColumns(),
+                        data.getRows().stream().map(Map.Entry::getValue).toList());
+            }
+        } catch (RuntimeException e) {
+            log.debug("[{}] Skipping binlog event {}: {}", unitName, type, e.getMessage());
+        }
+    }
+
+    // Matching and listener callbacks run on the dispatcher, in binlog order, keeping the reader thread free.
+    private void dispatch(long tableId, BitSet includedColumns, List<Serializable[]> rows) {
+        String table = tablesById.get(tableId);
+        if (table == null || !trackedColumns.containsKey(table)) {
+            return;
+        }
+        long receivedAt = System.nanoTime();
+        dispatcher.execute(() -> {
+            try {
+                rows.forEach(row -> onRow(table, includedColumns, row, receivedAt));
+            } catch (RuntimeException e) {
+                log.debug("[{}] Skipping binlog rows of {}: {}", unitName, table, e.getMessage());
+            }
+        });
+    }
+
+    private void onRow(String table, BitSet includedColumns, Serializable[] row, long receivedAt) {
+        Set<String> columns = trackedColumns.get(table);
+        List<String> columnNames = columnsByTable.get(table);
+        if (columns == null || columns.isEmpty() || columnNames == null) {
+            return;
+        }
+        for (String column : columns) {
+            int index = rowPosition(includedColumns, columnNames.indexOf(column));
+            if (index < 0 || index >= row.length || row[index] == null) {
+                continue;
+            }
+            String key = indexKey(table, column, asText(row[index]));
+            synchronized (recentChanges) {
+                recentChanges.put(key, receivedAt);
+            }
+            List<Runnable> listeners = watchers.get(key);
+            if (listeners != null) {
+                listeners.forEach(Runnable::run);
+            }
+        }
+    }
+
+    // Column names travel with the table map only when binlog_row_metadata=FULL; otherwise watch() asks the schema.
+    private void rememberColumnNames(TableMapEventData data) {
+        TableMapEventMetadata metadata = data.getEventMetadata();
+        if (metadata != null && metadata.getColumnNames() != null && !metadata.getColumnNames().isEmpty()) {
+            columnsByTable.put(data.getTable(), List.copyOf(metadata.getColumnNames()));
+        }
+    }
+
+    private void resolveColumnNames(String table) {
+        if (columnsByTable.containsKey(table)) {
+            return;
+        }
+        try {
+            List<String> names = jdbcTemplate.queryForList(
+                    "SELECT COLUMN_NAME FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION",
+                    String.class, schema, table);
+            columnsByTable.putIfAbsent(table, List.copyOf(names));
+        } catch (RuntimeException e) {
+            log.warn("[{}] Column names of {} are unknown, its changes are only seen by polling: {}",
+                    unitName, table, e.getMessage());
+        }
+    }
+
+    // With binlog_row_image=MINIMAL or NOBLOB a row carries only the included columns, in table order.
+    private static int rowPosition(BitSet includedColumns, int columnIndex) {
+        if (columnIndex < 0) {
+            return -1;
+        }
+        if (includedColumns == null) {
+            return columnIndex;
+        }
+        return includedColumns.get(columnIndex) ? includedColumns.get(0, columnIndex).cardinality() : -1;
+    }
+
+    private static String asText(Serializable value) {
+        return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private static String indexKey(String table, String column, String value) {
+        return table + '.' + column + '=' + value;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (client.isConnected()) {
+            client.disconnect();
+        }
+        dispatcher.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface Watch extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
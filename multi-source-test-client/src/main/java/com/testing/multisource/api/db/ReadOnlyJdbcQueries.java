@@ -0,0 +1,55 @@
+package com.testing.multisource.api.db;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// Plain JDBC reads mapped straight into records: no persistence context, no dirty-checking snapshots, no eager
+// converters. Inside an await poll they join its read-only transaction and therefore its read-only connection.
+public class ReadOnlyJdbcQueries {
+    private static final int DEFAULT_FETCH_SIZE = 100;
+
+    private final JdbcTemplate listTemplate;
+    private final JdbcTemplate singleRowTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ReadOnlyJdbcQueries(DataSource dataSource, ObjectMapper objectMapper) {
+        this(dataSource, objectMapper, DEFAULT_FETCH_SIZE);
+    }
+
+    public ReadOnlyJdbcQueries(DataSource dataSource, ObjectMapper objectMapper, int fetchSize) {
+        Objects.requireNonNull(dataSource, "dataSource");
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
+        this.listTemplate = new JdbcTemplate(dataSource);
+        this.listTemplate.setFetchSize(fetchSize);
+        this.singleRowTemplate = new JdbcTemplate(dataSource);
+        this.singleRowTemplate.setFetchSize(1);
+        this.singleRowTemplate.setMaxRows(1);
+    }
+
+    public <T> Optional<T> findOne(String sql, RowMapper<T> rowMapper, Object... args) {
+        List<T> rows = singleRowTemplate.query(sql, rowMapper, args);
+        return rows.isEmpty() ? Optional.empty() : Optional.ofNullable(rows.get(0));
+    }
+
+    public <T> List<T> findAll(String sql, RowMapper<T> rowMapper, Object... args) {
+        return listTemplate.query(sql, rowMapper, args);
+    }
+
+    // COUNT/SUM/MAX and friends; null when the query returns no row or a NULL aggregate.
+    public <T> T scalar(String sql, Class<T> type, Object... args) {
+        List<T> rows = singleRowTemplate.queryForList(sql, type, args);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public LazyJson json(ResultSet resultSet, String column) throws SQLException {
+        return LazyJson.of(resultSet.getString(column), objectMapper);
+    }
+}
@@ -0,0 +1,89 @@
+package com.testing.multisource.api.db;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Run-scoped cache for catalog rows that do not change while the tests run (games, providers, ...).
+// Entries live for the configured TTL; tests that change such a row evict it explicitly.
+@Slf4j
+@Component
+public class ReferenceDataCache implements DisposableBean {
+
+    private final boolean enabled;
+    private final boolean prewarmEnabled;
+    private final Duration ttl;
+    private final Map<String, Map<Object, Entry>> regions = new ConcurrentHashMap<>();
+    private final ExecutorService prewarmExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reference-data-prewarm");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReferenceDataCache(@Value("${app.db.reference-cache.enabled:true}") boolean enabled,
+                              @Value("${app.db.reference-cache.ttl-seconds:600}") long ttlSeconds,
+                              @Value("${app.db.reference-cache.prewarm:false}") boolean prewarmEnabled) {
+        this.enabled = enabled;
+        this.prewarmEnabled = prewarmEnabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getIfPresent(String region, Object key) {
+        Map<Object, Entry> entries = enabled ? regions.get(region) : null;
+        Entry cached = entries != null ? entries.get(key) : null;
+        if (cached == null || cached.expiresAt() - System.nanoTime() <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of((T) cached.value());
+    }
+
+    public void put(String region, Object key, Object value) {
+        if (enabled && value != null) {
+            regions.computeIfAbsent(region, ignored -> new ConcurrentHashMap<>())
+                    .put(key, new Entry(value, System.nanoTime() + ttl.toNanos()));
+        }
+    }
+
+    public void invalidate(String region, Object key) {
+        Map<Object, Entry> entries = regions.get(region);
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    // Opt-in, because warming opens the database pool even in runs that never query it. Warm-up runs off the
+    // startup path; a failure only means the first lookups go to the database.
+    public void prewarm(String description, Runnable loader) {
+        if (!enabled || !prewarmEnabled) {
+            return;
+        }
+        prewarmExecutor.execute(() -> {
+            long startedAt = System.nanoTime();
+            try {
+                loader.run();
+                log.info("Reference data '{}' pre-warmed in {} ms", description,
+                        Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+            } catch (RuntimeException e) {
+                log.warn("Reference data '{}' pre-warm failed: {}", description, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        prewarmExecutor.shutdownNow();
+        regions.clear();
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+}
@@ -1,37 +1,97 @@
 package com.testing.multisource.api.db.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing.multisource.api.db.HikariPoolTelemetry;
+import com.testing.multisource.api.db.MysqlBinlogChangeFeed;
+import com.testing.multisource.api.db.ReadOnlyJdbcQueries;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import com.zaxxer.hikari.HikariDataSource;
 
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
 public abstract class BaseDbConfig {
+    private static final int POOL_HEADROOM = 2;
+    private static final int MIN_POOL_SIZE = 2;
+    private static final int MAX_POOL_SIZE = 50;
+    private static final int MIN_IDLE = 2;
 
     protected DataSourceProperties createDataSourceProperties() {
         return new DataSourceProperties();
     }
 
-    protected HikariDataSource createDataSource(DataSourceProperties properties) {
-        return properties.initializeDataSourceBuilder()
+    // Only the pool size defaults to the JUnit parallelism (one short per-poll connection per concurrent await plus
+    // headroom for batch lookups and warm-up); a small minimum idle keeps Hikari from holding the whole pool open.
+    // spring.datasource.<unit>.hikari.* is bound onto the returned bean afterwards, so explicit values still win.
+    protected HikariDataSource createDataSource(String unit, DataSourceProperties properties, HikariPoolTelemetry telemetry,
+                                                Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
                 .type(HikariDataSource.class)
                 .build();
+        int parallelism = TestParallelism.effective();
+        int awaitsPerTest = environment.getProperty("app.db.pool.awaits-per-test", Integer.class, 1);
+        int adaptiveSize = Math.min(Math.max(parallelism * awaitsPerTest + POOL_HEADROOM, MIN_POOL_SIZE), MAX_POOL_SIZE);
+        dataSource.setPoolName(Character.toUpperCase(unit.charAt(0)) + unit.substring(1) + "HikariPool");
+        dataSource.setMaximumPoolSize(adaptiveSize);
+        dataSource.setMinimumIdle(Math.min(MIN_IDLE, adaptiveSize));
+        dataSource.setMetricsTrackerFactory(telemetry);
+        log.info("[{}] Default DB pool size is {} connections for test parallelism {}", unit, adaptiveSize, parallelism);
+        return dataSource;
+    }
+
+    protected HikariPoolTelemetry createPoolTelemetry(Environment environment) {
+        return new HikariPoolTelemetry(
+                Duration.ofMillis(environment.getProperty("app.db.pool.wait-warn-ms", Long.class, 200L)));
     }
 
     protected LocalContainerEntityManagerFactoryBean createEntityManagerFactory(EntityManagerFactoryBuilder builder,
                                                                                  HikariDataSource dataSource,
                                                                                  String packages,
-                                                                                 String persistenceUnit) {
-        return builder
+                                                                                 String persistenceUnit,
+                                                                                 AsyncTaskExecutor bootstrapExecutor) {
+        LocalContainerEntityManagerFactoryBean factory = builder
                 .dataSource(dataSource)
                 .packages(packages)
                 .persistenceUnit(persistenceUnit)
                 .build();
+        // Callers get an EntityManagerFactory proxy right away and block only on first real use.
+        factory.setBootstrapExecutor(bootstrapExecutor);
+        return factory;
     }
 
     protected PlatformTransactionManager createTransactionManager(LocalContainerEntityManagerFactoryBean entityManagerFactory) {
         return new JpaTransactionManager(entityManagerFactory.getObject());
     }
+
+    protected ReadOnlyJdbcQueries createReadOnlyQueries(HikariDataSource dataSource, ObjectMapper objectMapper) {
+        return new ReadOnlyJdbcQueries(dataSource, objectMapper);
+    }
+
+    // The server id must be unique among the replicas of the server, so a random one is used unless configured.
+    protected MysqlBinlogChangeFeed createChangeFeed(String unit,
+                                                    Environment environment,
+                                                    DataSourceProperties properties,
+                                                    HikariDataSource dataSource) {
+        String prefix = "app.db." + unit + ".binlog.";
+        long serverId = environment.getProperty(prefix + "server-id", Long.class,
+                ThreadLocalRandom.current().nextLong(100_000, 4_000_000_000L));
+        return new MysqlBinlogChangeFeed(unit,
+                environment.getRequiredProperty(prefix + "host"),
+                environment.getRequiredProperty(prefix + "port", Integer.class),
+                environment.getRequiredProperty(prefix + "schema"),
+                properties.getUsername(),
+                properties.getPassword(),
+                serverId,
+                Duration.ofMillis(environment.getProperty(prefix + "fallback-poll-ms", Long.class, 1000L)),
+                dataSource);
+    }
 }
@@ -1,13 +1,19 @@
 package com.testing.multisource.api.db.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing.multisource.api.db.HikariPoolTelemetry;
+import com.testing.multisource.api.db.ReadOnlyJdbcQueries;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.config.BootstrapMode;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -20,7 +26,8 @@ import com.zaxxer.hikari.HikariDataSource;
 @EnableJpaRepositories(
         basePackages = "com.uplatform.wallet_tests.api.db.repository.core",
         entityManagerFactoryRef = "coreEntityManagerFactory",
-        transactionManagerRef = "coreTransactionManager"
+        transactionManagerRef = "coreTransactionManager",
+        bootstrapMode = BootstrapMode.LAZY
 )
 public class CoreDbConfig extends BaseDbConfig {
 
@@ -32,17 +39,26 @@ public class CoreDbConfig extends BaseDbConfig {
 
     @Bean
     @Primary
-    public HikariDataSource coreDataSource(@Qualifier("coreDataSourceProperties") DataSourceProperties properties) {
-        return createDataSource(properties);
+    @ConfigurationProperties("spring.datasource.core.hikari")
+    public HikariDataSource coreDataSource(@Qualifier("coreDataSourceProperties") DataSourceProperties properties,
+                                           @Qualifier("corePoolTelemetry") HikariPoolTelemetry telemetry,
+                                           Environment environment) {
+        return createDataSource("core", properties, telemetry, environment);
+    }
+
+    @Bean
+    public HikariPoolTelemetry corePoolTelemetry(Environment environment) {
+        return createPoolTelemetry(environment);
     }
 
     @Bean
     @Primary
     public LocalContainerEntityManagerFactoryBean coreEntityManagerFactory(
             EntityManagerFactoryBuilder builder,
-            @Qualifier("coreDataSource") HikariDataSource dataSource) {
+            @Qualifier("coreDataSource") HikariDataSource dataSource,
+            @Qualifier("dbBootstrapExecutor") AsyncTaskExecutor bootstrapExecutor) {
         return createEntityManagerFactory(builder, dataSource,
-                "com.uplatform.wallet_tests.api.db.entity.core", "core");
+                "com.uplatform.wallet_tests.api.db.entity.core", "core", bootstrapExecutor);
     }
 
     @Bean
@@ -51,4 +67,10 @@ public class CoreDbConfig extends BaseDbConfig {
             @Qualifier("coreEntityManagerFactory") LocalContainerEntityManagerFactoryBean entityManagerFactory) {
         return createTransactionManager(entityManagerFactory);
     }
+
+    @Bean
+    public ReadOnlyJdbcQueries coreReadOnlyQueries(@Qualifier("coreDataSource") HikariDataSource dataSource,
+                                                   ObjectMapper objectMapper) {
+        return createReadOnlyQueries(dataSource, objectMapper);
+    }
 }
\ No newline at end of file
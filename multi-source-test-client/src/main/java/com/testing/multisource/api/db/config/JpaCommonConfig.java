@@ -1,10 +1,23 @@
 package com.testing.multisource.api.db.config;
 
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @Import(HibernateJpaAutoConfiguration.class)
 public class JpaCommonConfig {
+
+    // The core, wallet and player persistence units are built side by side, off the context startup thread.
+    @Bean
+    public AsyncTaskExecutor dbBootstrapExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);
+        executor.setThreadNamePrefix("jpa-bootstrap-");
+        executor.setDaemon(true);
+        return executor;
+    }
 }
\ No newline at end of file
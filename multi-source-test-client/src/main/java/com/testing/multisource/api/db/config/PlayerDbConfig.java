@@ -1,12 +1,18 @@
 package com.testing.multisource.api.db.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing.multisource.api.db.HikariPoolTelemetry;
+import com.testing.multisource.api.db.ReadOnlyJdbcQueries;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.config.BootstrapMode;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -19,7 +25,8 @@ import com.zaxxer.hikari.HikariDataSource;
 @EnableJpaRepositories(
         basePackages = "com.uplatform.wallet_tests.api.db.repository.player",
         entityManagerFactoryRef = "playerEntityManagerFactory",
-        transactionManagerRef = "playerTransactionManager"
+        transactionManagerRef = "playerTransactionManager",
+        bootstrapMode = BootstrapMode.LAZY
 )
 public class PlayerDbConfig extends BaseDbConfig {
 
@@ -30,16 +37,25 @@ public class PlayerDbConfig extends BaseDbConfig {
     }
 
     @Bean
-    public HikariDataSource playerDataSource(@Qualifier("playerDataSourceProperties") DataSourceProperties properties) {
-        return createDataSource(properties);
+    @ConfigurationProperties("spring.datasource.player.hikari")
+    public HikariDataSource playerDataSource(@Qualifier("playerDataSourceProperties") DataSourceProperties properties,
+                                             @Qualifier("playerPoolTelemetry") HikariPoolTelemetry telemetry,
+                                             Environment environment) {
+        return createDataSource("player", properties, telemetry, environment);
+    }
+
+    @Bean
+    public HikariPoolTelemetry playerPoolTelemetry(Environment environment) {
+        return createPoolTelemetry(environment);
     }
 
     @Bean
     public LocalContainerEntityManagerFactoryBean playerEntityManagerFactory(
             EntityManagerFactoryBuilder builder,
-            @Qualifier("playerDataSource") HikariDataSource dataSource) {
+            @Qualifier("playerDataSource") HikariDataSource dataSource,
+            @Qualifier("dbBootstrapExecutor") AsyncTaskExecutor bootstrapExecutor) {
         return createEntityManagerFactory(builder, dataSource,
-                "com.uplatform.wallet_tests.api.db.entity.player", "player");
+                "com.uplatform.wallet_tests.api.db.entity.player", "player", bootstrapExecutor);
     }
 
     @Bean
@@ -47,4 +63,10 @@ public class PlayerDbConfig extends BaseDbConfig {
             @Qualifier("playerEntityManagerFactory") LocalContainerEntityManagerFactoryBean entityManagerFactory) {
         return createTransactionManager(entityManagerFactory);
     }
+
+    @Bean
+    public ReadOnlyJdbcQueries playerReadOnlyQueries(@Qualifier("playerDataSource") HikariDataSource dataSource,
+                                                     ObjectMapper objectMapper) {
+        return createReadOnlyQueries(dataSource, objectMapper);
+    }
 }
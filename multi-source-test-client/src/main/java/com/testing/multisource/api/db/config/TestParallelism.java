@@ -0,0 +1,47 @@
+package com.testing.multisource.api.db.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+// Effective JUnit Jupiter parallelism, resolved the way the platform does: system properties override
+// junit-platform.properties on the classpath.
+final class TestParallelism {
+    private static final String PREFIX = "junit.jupiter.execution.parallel.";
+
+    private TestParallelism() {
+    }
+
+    static int effective() {
+        Properties properties = new Properties();
+        try (InputStream stream = TestParallelism.class.getClassLoader().getResourceAsStream("junit-platform.properties")) {
+            if (stream != null) {
+                properties.load(stream);
+            }
+        } catch (IOException ignored) {
+            // fall through to the defaults
+        }
+        properties.putAll(System.getProperties());
+
+        if (!Boolean.parseBoolean(value(properties, PREFIX + "enabled", "false"))) {
+            return 1;
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        String strategy = value(properties, PREFIX + "config.strategy", "dynamic");
+        try {
+            return switch (strategy) {
+                case "fixed" -> Math.max(Integer.parseInt(value(properties, PREFIX + "config.fixed.parallelism", "1")), 1);
+                case "dynamic" -> Math.max((int) Math.ceil(
+                        Double.parseDouble(value(properties, PREFIX + "config.dynamic.factor", "1")) * processors), 1);
+                default -> processors;
+            };
+        } catch (NumberFormatException e) {
+            return processors;
+        }
+    }
+
+    private static String value(Properties properties, String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value != null ? value.trim() : defaultValue;
+    }
+}
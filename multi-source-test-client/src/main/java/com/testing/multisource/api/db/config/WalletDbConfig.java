@@ -1,12 +1,20 @@
 package com.testing.multisource.api.db.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing.multisource.api.db.HikariPoolTelemetry;
+import com.testing.multisource.api.db.MysqlBinlogChangeFeed;
+import com.testing.multisource.api.db.ReadOnlyJdbcQueries;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.orm.jpa.EntityManagerFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.config.BootstrapMode;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -19,7 +27,8 @@ import com.zaxxer.hikari.HikariDataSource;
 @EnableJpaRepositories(
         basePackages = "com.uplatform.wallet_tests.api.db.repository.wallet",
         entityManagerFactoryRef = "walletEntityManagerFactory",
-        transactionManagerRef = "walletTransactionManager"
+        transactionManagerRef = "walletTransactionManager",
+        bootstrapMode = BootstrapMode.LAZY
 )
 public class WalletDbConfig extends BaseDbConfig {
 
@@ -30,16 +39,25 @@ public class WalletDbConfig extends BaseDbConfig {
     }
 
     @Bean
-    public HikariDataSource walletDataSource(@Qualifier("walletDataSourceProperties") DataSourceProperties properties) {
-        return createDataSource(properties);
+    @ConfigurationProperties("spring.datasource.wallet.hikari")
+    public HikariDataSource walletDataSource(@Qualifier("walletDataSourceProperties") DataSourceProperties properties,
+                                             @Qualifier("walletPoolTelemetry") HikariPoolTelemetry telemetry,
+                                             Environment environment) {
+        return createDataSource("wallet", properties, telemetry, environment);
+    }
+
+    @Bean
+    public HikariPoolTelemetry walletPoolTelemetry(Environment environment) {
+        return createPoolTelemetry(environment);
     }
 
     @Bean
     public LocalContainerEntityManagerFactoryBean walletEntityManagerFactory(
             EntityManagerFactoryBuilder builder,
-            @Qualifier("walletDataSource") HikariDataSource dataSource) {
+            @Qualifier("walletDataSource") HikariDataSource dataSource,
+            @Qualifier("dbBootstrapExecutor") AsyncTaskExecutor bootstrapExecutor) {
         return createEntityManagerFactory(builder, dataSource,
-                "com.uplatform.wallet_tests.api.db.entity.wallet", "wallet");
+                "com.uplatform.wallet_tests.api.db.entity.wallet", "wallet", bootstrapExecutor);
     }
 
     @Bean
@@ -47,4 +65,19 @@ public class WalletDbConfig extends BaseDbConfig {
             @Qualifier("walletEntityManagerFactory") LocalContainerEntityManagerFactoryBean entityManagerFactory) {
         return createTransactionManager(entityManagerFactory);
     }
+
+    @Bean
+    public ReadOnlyJdbcQueries walletReadOnlyQueries(@Qualifier("walletDataSource") HikariDataSource dataSource,
+                                                     ObjectMapper objectMapper) {
+        return createReadOnlyQueries(dataSource, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.db.wallet.binlog.enabled", havingValue = "true")
+    public MysqlBinlogChangeFeed walletChangeFeed(
+            Environment environment,
+            @Qualifier("walletDataSourceProperties") DataSourceProperties properties,
+            @Qualifier("walletDataSource") HikariDataSource dataSource) {
+        return createChangeFeed("wallet", environment, properties, dataSource);
+    }
 }
\ No newline at end of file
@@ -42,7 +42,7 @@ public class KafkaAllureReporter {
                 targetClass.getSimpleName(),
                 filterCriteriaString
         );
-        attachmentService.attachText(AttachmentType.KAFKA, "Search Info", searchInfoContent);
+        attachmentService.attachTextOnFailure(AttachmentType.KAFKA, "Search Info", searchInfoContent);
     }
 
     public void addFoundMessageAttachment(ConsumerRecord<String, String> record) {
@@ -5,8 +5,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.testing.multisource.api.attachment.AllureAttachmentService;
 import com.testing.multisource.api.attachment.AttachmentType;
 import com.testing.multisource.api.nats.dto.NatsMessage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,41 +23,65 @@ public class NatsAttachmentHelper {
     private final AllureAttachmentService attachmentService;
 
     public <T> void addNatsAttachment(String name, NatsMessage<T> natsMsg) {
-        StringBuilder sb = new StringBuilder();
-
         if (natsMsg == null) {
             log.warn("Attaching placeholder for '{}' because message is null.", name);
-            sb.append("Message: <null>\n");
+            attach(name, () -> "Message: <null>\n");
+            return;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Metadata:\n");
+        sb.append(" - Subject: ").append(natsMsg.getSubject()).append("\n");
+        sb.append(" - Sequence: ").append(natsMsg.getSequence()).append("\n");
+        if (natsMsg.getType() != null) {
+            sb.append(" - Type Header: ").append(natsMsg.getType()).append("\n");
+        }
+        if (natsMsg.getTimestamp() != null) {
+            sb.append(" - Timestamp: ")
+                    .append(natsMsg.getTimestamp().toInstant())
+                    .append(" (")
+                    .append(natsMsg.getTimestamp())
+                    .append(")\n");
+        }
+        String metadata = sb.toString();
+
+        byte[] data = natsMsg.getData();
+        if (data != null) {
+            // Called on the NATS dispatcher: only the received bytes are handed over, parsing and pretty-printing
+            // happen on the attachment writer.
+            attach(name, () -> {
+                StringBuilder text = new StringBuilder(metadata);
+                appendRawPayload(text, data);
+                return text.toString();
+            });
         } else {
-            sb.append("Metadata:\n");
-            sb.append(" - Subject: ").append(natsMsg.getSubject()).append("\n");
-            sb.append(" - Sequence: ").append(natsMsg.getSequence()).append("\n");
-            if (natsMsg.getType() != null) {
-                sb.append(" - Type Header: ").append(natsMsg.getType()).append("\n");
-            }
-            if (natsMsg.getTimestamp() != null) {
-                sb.append(" - Timestamp: ")
-                        .append(natsMsg.getTimestamp().toInstant())
-                        .append(" (")
-                        .append(natsMsg.getTimestamp())
-                        .append(")\n");
-            }
+            appendPayload(sb, natsMsg.getPayload());
+            String text = sb.toString();
+            attach(name, () -> text);
+        }
+    }
+
+    private void attach(String name, Supplier<String> content) {
+        try {
+            attachmentService.attachText(AttachmentType.NATS, name, content);
+        } catch (Exception e) {
+            log.error("Failed to add Allure attachment '{}': {}", name, e.getMessage());
+        }
+    }
 
-            T payload = natsMsg.getPayload();
-            if (payload != null) {
-                sb.append('\n');
-                sb.append("Payload:");
-                sb.append("\n - Data Type: ").append(payload.getClass().getName()).append("\n\n");
-                try {
-                    sb.append("Payload (JSON):\n");
-                    sb.append(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(payload));
-                } catch (JsonProcessingException e) {
-                    sb.append("Error marshalling payload: ").append(e.getMessage()).append("\n");
-                    sb.append("Payload (toString()):\n").append(payload);
-                }
-            } else {
-                sb.append("\nPayload: <null>\n");
+    public void addCollectedAttachment(String name, List<? extends NatsMessage<?>> messages) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Collected: ").append(messages.size()).append(" message(s)\n");
+        for (NatsMessage<?> message : messages) {
+            sb.append(" - #").append(message.getSequence())
+                    .append(' ').append(message.getSubject());
+            if (message.getType() != null) {
+                sb.append(" [").append(message.getType()).append(']');
             }
+            if (message.getTimestamp() != null) {
+                sb.append(" @ ").append(message.getTimestamp().toInstant());
+            }
+            sb.append('\n');
         }
 
         try {
@@ -63,6 +91,39 @@ public class NatsAttachmentHelper {
         }
     }
 
+    private void appendRawPayload(StringBuilder sb, byte[] data) {
+        if (data.length == 0) {
+            sb.append("\nPayload: <empty>\n");
+            return;
+        }
+        sb.append('\n');
+        sb.append("Payload:");
+        sb.append("\n - Size: ").append(data.length).append(" bytes\n\n");
+        try {
+            sb.append("Payload (JSON):\n");
+            sb.append(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(objectMapper.readTree(data)));
+        } catch (IOException e) {
+            sb.append("Payload (raw):\n").append(new String(data, StandardCharsets.UTF_8));
+        }
+    }
+
+    private void appendPayload(StringBuilder sb, Object payload) {
+        if (payload == null) {
+            sb.append("\nPayload: <null>\n");
+            return;
+        }
+        sb.append('\n');
+        sb.append("Payload:");
+        sb.append("\n - Data Type: ").append(payload.getClass().getName()).append("\n\n");
+        try {
+            sb.append("Payload (JSON):\n");
+            sb.append(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            sb.append("Error marshalling payload: ").append(e.getMessage()).append("\n");
+            sb.append("Payload (toString()):\n").append(payload);
+        }
+    }
+
     public void addSearchInfo(String subject,
                               Class<?> messageType,
                               Duration timeout,
@@ -70,6 +131,21 @@ public class NatsAttachmentHelper {
                               Map<String, Object> metadataFilters,
                               boolean unique,
                               Duration duplicateWindow) {
+        String mode = "first-match";
+        if (unique) {
+            mode = "unique (window="
+                    + (duplicateWindow != null ? duplicateWindow.toMillis() : "default")
+                    + " ms)";
+        }
+        addSearchInfo(subject, messageType, timeout, payloadFilters, metadataFilters, mode);
+    }
+
+    public void addSearchInfo(String subject,
+                              Class<?> messageType,
+                              Duration timeout,
+                              Map<String, Object> payloadFilters,
+                              Map<String, Object> metadataFilters,
+                              String mode) {
         StringBuilder builder = new StringBuilder();
         builder.append("Subject: ").append(subject).append('\n');
         builder.append("Message Type: ")
@@ -78,13 +154,7 @@ public class NatsAttachmentHelper {
         if (timeout != null) {
             builder.append("Timeout: ").append(timeout.toMillis()).append(" ms\n");
         }
-        builder.append("Mode: ").append(unique ? "unique" : "first-match");
-        if (unique) {
-            builder.append(" (window=")
-                    .append(duplicateWindow != null ? duplicateWindow.toMillis() : "default")
-                    .append(" ms)");
-        }
-        builder.append('\n');
+        builder.append("Mode: ").append(mode).append('\n');
 
         if (metadataFilters != null && !metadataFilters.isEmpty()) {
             builder.append("Metadata Filters:");
@@ -113,7 +183,7 @@ public class NatsAttachmentHelper {
         }
 
         try {
-            attachmentService.attachText(AttachmentType.NATS, "Search Info", builder.toString());
+            attachmentService.attachTextOnFailure(AttachmentType.NATS, "Search Info", builder.toString());
         } catch (Exception e) {
             log.error("Failed to add NATS Search Info attachment: {}", e.getMessage());
         }
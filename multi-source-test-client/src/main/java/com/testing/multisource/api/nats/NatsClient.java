@@ -9,10 +9,20 @@ import com.testing.multisource.api.nats.exceptions.NatsMessageNotFoundException;
 import com.testing.multisource.config.modules.nats.NatsConfig;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -21,6 +31,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class NatsClient {
     private final NatsSubscriber subscriber;
+    private final NatsDirectReader directReader;
     private final String streamPrefix;
     private final String natsBaseName;
     private final Duration searchTimeout;
@@ -42,8 +53,7 @@ public class NatsClient {
         this.defaultUniqueWindow = Duration.ofMillis(natsConfig.uniqueDuplicateWindowMs());
 
         this.subscriber = new NatsSubscriber(
-                connectionManager.getConnection(),
-                connectionManager.getJetStream(),
+                connectionManager,
                 objectMapper,
                 attachmentHelper,
                 payloadMatcher,
@@ -54,9 +64,20 @@ public class NatsClient {
                 natsConfig.subscriptionBufferSize(),
                 natsConfig.subscriptionRetryCount(),
                 natsConfig.subscriptionRetryDelayMs(),
+                natsConfig.failOnDeserialization(),
+                Duration.ofMillis(natsConfig.uniqueCatchUpGraceMs())
+        );
+
+        this.directReader = new NatsDirectReader(
+                connectionManager.getJetStreamManagement(),
+                objectMapper,
+                attachmentHelper,
+                payloadMatcher,
+                streamName,
+                Duration.ofMillis(natsConfig.directGetPollIntervalMs()),
                 natsConfig.failOnDeserialization()
         );
-}
+    }
 
     public String buildWalletSubject(String playerUuid, String walletUuid) {
         String subjectBase = this.streamPrefix + "." + this.natsBaseName;
@@ -121,10 +142,110 @@ public class NatsClient {
         return findUniqueMessage(subject, messageType, jsonPathFilters, metadataFilters, defaultUniqueWindow, timeout);
     }
 
+    public <T> NatsMessage<T> findMessageBySequence(String subject,
+                                                    Class<T> messageType,
+                                                    Map<String, Object> jsonPathFilters,
+                                                    Map<String, Object> metadataFilters,
+                                                    long sequence,
+                                                    Duration timeout) {
+        return directReader.findBySequence(subject, messageType, jsonPathFilters, metadataFilters, sequence,
+                timeout != null ? timeout : this.searchTimeout);
+    }
+
+    public <T> NatsMessage<T> findLastMessage(String subject,
+                                              Class<T> messageType,
+                                              Map<String, Object> jsonPathFilters,
+                                              Map<String, Object> metadataFilters,
+                                              Duration timeout) {
+        return directReader.findLastOnSubject(subject, messageType, jsonPathFilters, metadataFilters,
+                timeout != null ? timeout : this.searchTimeout);
+    }
+
+    public <T> CompletableFuture<List<NatsMessage<T>>> collectMessagesAsync(String subject,
+                                                                            Class<T> messageType,
+                                                                            Map<String, Object> jsonPathFilters,
+                                                                            Map<String, Object> metadataFilters,
+                                                                            int count,
+                                                                            Duration timeout) {
+        return subscriber.collectMessagesAsync(subject, messageType, jsonPathFilters, metadataFilters,
+                count, null, timeout);
+    }
+
+    public <T> List<NatsMessage<T>> collectMessages(String subject,
+                                                    Class<T> messageType,
+                                                    Map<String, Object> jsonPathFilters,
+                                                    Map<String, Object> metadataFilters,
+                                                    int count,
+                                                    Duration timeout) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        CompletableFuture<List<NatsMessage<T>>> future = collectMessagesAsync(subject, messageType,
+                jsonPathFilters, metadataFilters, count, timeout);
+        return resolveFuture(subject, messageType, timeout, future);
+    }
+
+    public <T> Stream<NatsMessage<T>> streamMessages(String subject,
+                                                     Class<T> messageType,
+                                                     Map<String, Object> jsonPathFilters,
+                                                     Map<String, Object> metadataFilters,
+                                                     Duration timeout) {
+        BlockingQueue<NatsMessage<T>> queue = new LinkedBlockingQueue<>();
+        CompletableFuture<List<NatsMessage<T>>> future = subscriber.collectMessagesAsync(subject, messageType,
+                jsonPathFilters, metadataFilters, 0, queue::add, timeout);
+
+        Spliterator<NatsMessage<T>> spliterator = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super NatsMessage<T>> action) {
+                try {
+                    NatsMessage<T> next = queue.poll();
+                    while (next == null && !future.isDone()) {
+                        next = queue.poll(50, TimeUnit.MILLISECONDS);
+                    }
+                    if (next == null) {
+                        next = queue.poll();
+                    }
+                    if (next == null) {
+                        rethrowFailure(subject, future);
+                        return false;
+                    }
+                    action.accept(next);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(false);
+                    return false;
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> future.cancel(false));
+    }
+
+    private void rethrowFailure(String subject, CompletableFuture<?> future) {
+        if (!future.isCompletedExceptionally() || future.isCancelled()) {
+            return;
+        }
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            throw new NatsMessageNotFoundException(
+                    String.format("NATS message stream on subject '%s' failed", subject), e.getCause());
+        }
+    }
+
     public <T> NatsExpectationBuilder<T> expect(Class<T> messageType) {
         return new NatsExpectationBuilder<>(this, messageType, this.searchTimeout);
     }
 
+    public NatsExpectationGroup expectAll(String subject) {
+        return new NatsExpectationGroup(this, subject, this.searchTimeout);
+    }
+
+    void findMessagesAsync(String subject, List<NatsSubscriber.ExpectationSpec<?>> specs, Duration timeout) {
+        subscriber.findMessagesAsync(subject, specs, timeout);
+    }
+
     Duration getSearchTimeout() {
         return this.searchTimeout;
     }
@@ -133,10 +254,10 @@ public class NatsClient {
         return this.defaultUniqueWindow;
     }
 
-    private <T> NatsMessage<T> resolveFuture(String subject,
-                                             Class<T> messageType,
-                                             Duration timeout,
-                                             CompletableFuture<NatsMessage<T>> future) {
+    <R> R resolveFuture(String subject,
+                        Class<?> messageType,
+                        Duration timeout,
+                        CompletableFuture<R> future) {
         try {
             return future.get();
         } catch (InterruptedException e) {
@@ -7,6 +7,7 @@ import io.nats.client.JetStreamApiException;
 import io.nats.client.JetStreamManagement;
 import io.nats.client.api.StreamInfo;
 import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,16 +15,22 @@ import org.springframework.stereotype.Service;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @Slf4j
 @Getter
 public class NatsConnectionManager {
     private final Connection connection;
+    @Getter(AccessLevel.NONE)
+    private final List<Lane> lanes;
     private final JetStream jetStream;
+    private final JetStreamManagement jetStreamManagement;
     private final String streamName;
     private final String streamPrefix;
     private final String natsBaseName;
@@ -35,15 +42,25 @@ public class NatsConnectionManager {
         this.natsBaseName = natsConfig.streamName();
         this.streamName = this.streamPrefix + this.natsBaseName;
 
-        Options options = buildOptions(natsConfig);
+        List<Lane> openedLanes = new ArrayList<>();
         try {
-            this.connection = Nats.connect(options);
+            for (int i = 0; i < natsConfig.connectionPoolSize(); i++) {
+                Connection laneConnection = Nats.connect(buildOptions(natsConfig, i));
+                openedLanes.add(new Lane(laneConnection, laneConnection.jetStream(),
+                        createDispatchers(laneConnection, natsConfig.dispatcherPoolSize())));
+            }
         } catch (Exception e) {
             log.error("Failed to connect to NATS servers: {}", String.join(",", natsConfig.hosts()), e);
+            openedLanes.forEach(lane -> closeQuietly(lane.connection()));
             throw new IllegalStateException("NATS connection failed", e);
         }
+        this.lanes = List.copyOf(openedLanes);
+        this.connection = lanes.get(0).connection();
+        log.info("NATS connection pool ready: {} connection(s) x {} dispatcher(s)",
+                lanes.size(), natsConfig.dispatcherPoolSize());
 
         try {
+            this.jetStreamManagement = connection.jetStreamManagement();
             this.jetStream = initJetStream();
         } catch (Exception e) {
             log.error("Failed to create JetStream context or validate stream '{}'", this.streamName, e);
@@ -52,9 +69,23 @@ public class NatsConnectionManager {
         }
     }
 
-    private Options buildOptions(NatsConfig cfg) {
+    Lane laneFor(String subject) {
+        // Same subject always lands on the same connection, so one wallet's traffic stays ordered on one socket.
+        return lanes.get(Math.floorMod(subject.hashCode(), lanes.size()));
+    }
+
+    private List<Dispatcher> createDispatchers(Connection laneConnection, int size) {
+        List<Dispatcher> dispatchers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dispatchers.add(laneConnection.createDispatcher());
+        }
+        return List.copyOf(dispatchers);
+    }
+
+    private Options buildOptions(NatsConfig cfg, int laneIndex) {
         return new Options.Builder()
                 .servers(cfg.hosts().toArray(new String[0]))
+                .connectionName(this.streamName + "-" + laneIndex)
                 .reconnectWait(Duration.ofSeconds(cfg.connectReconnectWaitSeconds()))
                 .maxReconnects(cfg.connectMaxReconnects())
                 .connectionListener(this::connectionListener)
@@ -70,8 +101,7 @@ public class NatsConnectionManager {
 
     private void validateStreamExists() throws IOException, JetStreamApiException {
         try {
-            JetStreamManagement jsm = connection.jetStreamManagement();
-            StreamInfo streamInfo = jsm.getStreamInfo(this.streamName);
+            StreamInfo streamInfo = jetStreamManagement.getStreamInfo(this.streamName);
             log.info("Successfully validated NATS stream: {}", streamInfo.getConfiguration().getName());
         } catch (JetStreamApiException e) {
             if (e.getMessage() != null && e.getMessage().contains("stream not found")) {
@@ -93,6 +123,16 @@ public class NatsConnectionManager {
         }
     }
 
+    record Lane(Connection connection, JetStream jetStream, List<Dispatcher> dispatchers, AtomicInteger cursor) {
+        Lane(Connection connection, JetStream jetStream, List<Dispatcher> dispatchers) {
+            this(connection, jetStream, dispatchers, new AtomicInteger());
+        }
+
+        Dispatcher nextDispatcher() {
+            return dispatchers.get(Math.floorMod(cursor.getAndIncrement(), dispatchers.size()));
+        }
+    }
+
     private void connectionListener(Connection conn, ConnectionListener.Events type) {
         log.info("NATS connection event: {} - Connection: {}", type, conn);
     }
@@ -111,7 +151,15 @@ public class NatsConnectionManager {
 
     @PreDestroy
     public void gracefulClose() {
-        if (connection != null && connection.getStatus() == Connection.Status.CONNECTED) {
+        if (lanes == null) {
+            log.warn("NATS connection pool was not initialized, nothing to close.");
+            return;
+        }
+        lanes.forEach(lane -> gracefulClose(lane.connection()));
+    }
+
+    private void gracefulClose(Connection connection) {
+        if (connection.getStatus() == Connection.Status.CONNECTED) {
             try {
                 CompletableFuture<Boolean> drained = connection.drain(Duration.ofSeconds(5));
                 if (drained.get(6, TimeUnit.SECONDS)) {
@@ -129,15 +177,17 @@ public class NatsConnectionManager {
                     log.error("Exception during NATS connection close: {}", closeEx.getMessage(), closeEx);
                 }
             }
-        } else if (connection != null) {
-            log.info("NATS connection already closed or not connected (Status: {}). Closing anyway.", connection.getStatus());
-            try {
-                connection.close();
-            } catch (Exception e) {
-                log.warn("Exception during close of non-connected NATS connection: {}", e.getMessage());
-            }
         } else {
-            log.warn("NATS connection instance was null, cannot close.");
+            log.info("NATS connection already closed or not connected (Status: {}). Closing anyway.", connection.getStatus());
+            closeQuietly(connection);
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (Exception e) {
+            log.warn("Exception during close of non-connected NATS connection: {}", e.getMessage());
         }
     }
 }
@@ -0,0 +1,213 @@
+package com.testing.multisource.api.nats;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing.multisource.api.nats.dto.NatsMessage;
+import com.testing.multisource.api.nats.exceptions.NatsDeserializationException;
+import com.testing.multisource.api.nats.exceptions.NatsMessageNotFoundException;
+import io.nats.client.JetStreamApiException;
+import io.nats.client.JetStreamManagement;
+import io.nats.client.api.MessageInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.awaitility.core.ConditionTimeoutException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+
+@Slf4j
+class NatsDirectReader {
+    private static final int NO_MESSAGE_FOUND_ERROR_CODE = 10037;
+
+    private final JetStreamManagement jsm;
+    private final ObjectMapper objectMapper;
+    private final NatsAttachmentHelper attachmentHelper;
+    private final NatsPayloadMatcher payloadMatcher;
+    private final String streamName;
+    private final Duration pollInterval;
+    private final boolean failOnDeserialization;
+
+    NatsDirectReader(JetStreamManagement jsm,
+                     ObjectMapper objectMapper,
+                     NatsAttachmentHelper attachmentHelper,
+                     NatsPayloadMatcher payloadMatcher,
+                     String streamName,
+                     Duration pollInterval,
+                     boolean failOnDeserialization) {
+        this.jsm = jsm;
+        this.objectMapper = objectMapper;
+        this.attachmentHelper = attachmentHelper;
+        this.payloadMatcher = payloadMatcher;
+        this.streamName = streamName;
+        this.pollInterval = pollInterval;
+        this.failOnDeserialization = failOnDeserialization;
+    }
+
+    <T> NatsMessage<T> findBySequence(String subject,
+                                      Class<T> messageType,
+                                      Map<String, Object> jsonPathFilters,
+                                      Map<String, Object> metadataFilters,
+                                      long sequence,
+                                      Duration timeout) {
+        String logPrefix = String.format("NATS DIRECT GET [%s -> %s #%d]", this.streamName, subject, sequence);
+        attachmentHelper.addSearchInfo(subject, messageType, timeout, jsonPathFilters, metadataFilters,
+                "direct-get (sequence " + sequence + ")");
+
+        JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
+        AtomicReference<String> lastReason = new AtomicReference<>("message not stored yet");
+
+        // A stored sequence never changes, so a mismatch is final and only an absent message is retried.
+        Callable<Optional<NatsMessage<T>>> lookup = () -> {
+            Optional<MessageInfo> info = fetchMessageInfo(() -> jsm.getMessage(this.streamName, sequence), lastReason);
+            if (info.isEmpty()) {
+                lastReason.set("message #" + sequence + " not stored yet");
+                return Optional.empty();
+            }
+            NatsMessage<T> message = toNatsMessage(info.get(), javaType, logPrefix);
+            String reason = describeMismatch(subject, message, jsonPathFilters, metadataFilters);
+            if (reason != null) {
+                lastReason.set("message #" + sequence + " " + reason);
+                throw new NatsMessageNotFoundException(
+                        String.format("Message #%d on stream '%s' does not match: %s", sequence, this.streamName, reason));
+            }
+            return Optional.of(message);
+        };
+
+        return awaitLookup(lookup, logPrefix, timeout, lastReason);
+    }
+
+    <T> NatsMessage<T> findLastOnSubject(String subject,
+                                         Class<T> messageType,
+                                         Map<String, Object> jsonPathFilters,
+                                         Map<String, Object> metadataFilters,
+                                         Duration timeout) {
+        String logPrefix = String.format("NATS DIRECT GET [%s -> %s last]", this.streamName, subject);
+        attachmentHelper.addSearchInfo(subject, messageType, timeout, jsonPathFilters, metadataFilters,
+                "direct-get (last on subject)");
+
+        JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
+        AtomicReference<String> lastReason = new AtomicReference<>("no message stored on subject yet");
+
+        Callable<Optional<NatsMessage<T>>> lookup = () -> {
+            Optional<MessageInfo> info = fetchMessageInfo(() -> jsm.getLastMessage(this.streamName, subject), lastReason);
+            if (info.isEmpty()) {
+                lastReason.set("no message stored on subject yet");
+                return Optional.empty();
+            }
+            NatsMessage<T> message = toNatsMessage(info.get(), javaType, logPrefix);
+            String reason = describeMismatch(subject, message, jsonPathFilters, metadataFilters);
+            if (reason != null) {
+                lastReason.set("last message #" + message.getSequence() + " " + reason);
+                return Optional.empty();
+            }
+            return Optional.of(message);
+        };
+
+        return awaitLookup(lookup, logPrefix, timeout, lastReason);
+    }
+
+    private <T> NatsMessage<T> awaitLookup(Callable<Optional<NatsMessage<T>>> lookup,
+                                           String logPrefix,
+                                           Duration timeout,
+                                           AtomicReference<String> lastReason) {
+        try {
+            Optional<NatsMessage<T>> result = await(logPrefix)
+                    .pollDelay(Duration.ZERO)
+                    .pollInterval(pollInterval)
+                    .atMost(timeout)
+                    .ignoreExceptionsInstanceOf(IOException.class)
+                    .until(lookup, Optional::isPresent);
+            NatsMessage<T> message = result.get();
+            attachmentHelper.addNatsAttachment("NATS Message Found", message);
+            return message;
+        } catch (ConditionTimeoutException e) {
+            log.warn("{} | Not found within {}: {}", logPrefix, timeout, lastReason.get());
+            throw new NatsMessageNotFoundException("No matching message found: " + lastReason.get(), e);
+        }
+    }
+
+    // IO failures are retried by the await, so they are only remembered for the timeout report.
+    private Optional<MessageInfo> fetchMessageInfo(Callable<MessageInfo> request,
+                                                   AtomicReference<String> lastReason) throws Exception {
+        try {
+            return Optional.ofNullable(request.call());
+        } catch (IOException e) {
+            lastReason.set("direct get failed: " + e.getMessage());
+            throw e;
+        } catch (JetStreamApiException e) {
+            if (e.getApiErrorCode() == NO_MESSAGE_FOUND_ERROR_CODE) {
+                return Optional.empty();
+            }
+            throw new NatsMessageNotFoundException("JetStream direct get failed: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> NatsMessage<T> toNatsMessage(MessageInfo info, JavaType javaType, String logPrefix) {
+        String type = info.getHeaders() != null ? info.getHeaders().getFirst("type") : null;
+        OffsetDateTime timestamp = info.getTime() != null ? info.getTime().toOffsetDateTime() : null;
+
+        return NatsMessage.<T>builder()
+                .data(info.getData() != null ? info.getData() : new byte[0])
+                .headers(info.getHeaders())
+                .decoder(bytes -> decode(bytes, javaType, info.getSeq(), logPrefix))
+                .subject(info.getSubject())
+                .type(type)
+                .sequence(info.getSeq())
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private <T> T decode(byte[] data, JavaType javaType, long sequence, String logPrefix) {
+        try {
+            return objectMapper.readValue(data, javaType);
+        } catch (IOException e) {
+            if (failOnDeserialization) {
+                throw new NatsDeserializationException("Failed to deserialize NATS message", e);
+            }
+            log.debug("{} | JSON unmarshal failed seq={}: {}", logPrefix, sequence, e.getMessage());
+            return null;
+        }
+    }
+
+    private String describeMismatch(String subject,
+                                    NatsMessage<?> message,
+                                    Map<String, Object> jsonPathFilters,
+                                    Map<String, Object> metadataFilters) {
+        if (!subjectMatches(subject, message.getSubject())) {
+            return "is stored on subject '" + message.getSubject() + "'";
+        }
+        if (!payloadMatcher.matchesAll(message, jsonPathFilters, metadataFilters)) {
+            return "does not match filters (type=" + message.getType() + ")";
+        }
+        if (message.getData().length > 0 && message.getPayload() == null) {
+            return "has no readable payload";
+        }
+        return null;
+    }
+
+    static boolean subjectMatches(String pattern, String subject) {
+        if (pattern == null || subject == null) {
+            return false;
+        }
+        String[] patternTokens = pattern.split("\\.");
+        String[] subjectTokens = subject.split("\\.");
+        for (int i = 0; i < patternTokens.length; i++) {
+            if (">".equals(patternTokens[i])) {
+                return subjectTokens.length > i;
+            }
+            if (i >= subjectTokens.length) {
+                return false;
+            }
+            if (!"*".equals(patternTokens[i]) && !patternTokens[i].equals(subjectTokens[i])) {
+                return false;
+            }
+        }
+        return patternTokens.length == subjectTokens.length;
+    }
+}
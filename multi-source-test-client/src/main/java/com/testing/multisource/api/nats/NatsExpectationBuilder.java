@@ -9,6 +9,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class NatsExpectationBuilder<T> {
     private final NatsClient client;
@@ -18,6 +19,8 @@ public class NatsExpectationBuilder<T> {
     private final Map<String, Object> jsonPathFilters = new LinkedHashMap<>();
     private final Map<String, Object> metadataFilters = new LinkedHashMap<>();
     private boolean unique = false;
+    private Long sequence;
+    private boolean lastOnSubject = false;
     private Duration timeout;
     private Duration duplicateWindow;
 
@@ -48,6 +51,12 @@ public class NatsExpectationBuilder<T> {
 
     public NatsExpectationBuilder<T> withSequence(long expectedSequence) {
         this.metadataFilters.put("sequence", expectedSequence);
+        this.sequence = expectedSequence;
+        return this;
+    }
+
+    public NatsExpectationBuilder<T> lastOnSubject() {
+        this.lastOnSubject = true;
         return this;
     }
 
@@ -72,11 +81,14 @@ public class NatsExpectationBuilder<T> {
         if (subject == null) {
             throw new IllegalStateException("Subject must be specified");
         }
+        if (unique && (sequence != null || lastOnSubject)) {
+            throw new IllegalStateException("unique() cannot be combined with withSequence() or lastOnSubject()");
+        }
+        if (sequence != null && lastOnSubject) {
+            throw new IllegalStateException("withSequence() and lastOnSubject() are mutually exclusive");
+        }
 
-        Duration candidateTimeout = this.timeout != null ? this.timeout : defaultTimeout;
-        Duration effectiveTimeout = candidateTimeout.isNegative()
-                ? defaultTimeout
-                : candidateTimeout.truncatedTo(ChronoUnit.MILLIS);
+        Duration effectiveTimeout = effectiveTimeout();
 
         Map<String, Object> payloadFilters = Map.copyOf(this.jsonPathFilters);
         Map<String, Object> metaFilters = Map.copyOf(this.metadataFilters);
@@ -85,6 +97,14 @@ public class NatsExpectationBuilder<T> {
         String searchDetails = buildSearchDetails(payloadFilters, metaFilters);
 
         try {
+            if (sequence != null) {
+                return client.findMessageBySequence(subject, messageType, payloadFilters, metaFilters, sequence, effectiveTimeout);
+            }
+
+            if (lastOnSubject) {
+                return client.findLastMessage(subject, messageType, payloadFilters, metaFilters, effectiveTimeout);
+            }
+
             if (unique) {
                 Duration window = this.duplicateWindow != null ? this.duplicateWindow : client.getDefaultUniqueWindow();
                 return client.findUniqueMessage(subject, messageType, payloadFilters, metaFilters, window, effectiveTimeout);
@@ -109,7 +129,54 @@ public class NatsExpectationBuilder<T> {
         }
     }
 
-    private String buildSearchDetails(Map<String, Object> payloadFilters, Map<String, Object> metadataFilters) {
+    public List<NatsMessage<T>> collect(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        validateForCollection("collect()");
+
+        Duration effectiveTimeout = effectiveTimeout();
+        Map<String, Object> payloadFilters = Map.copyOf(this.jsonPathFilters);
+        Map<String, Object> metaFilters = Map.copyOf(this.metadataFilters);
+
+        try {
+            return client.collectMessages(subject, messageType, payloadFilters, metaFilters, count, effectiveTimeout);
+        } catch (NatsMessageNotFoundException e) {
+            throw new NatsMessageNotFoundException(
+                    String.format("Expected %d NATS messages %s %s on subject '%s' within %s.",
+                            count,
+                            messageType.getSimpleName(),
+                            buildSearchDetails(payloadFilters, metaFilters),
+                            subject,
+                            effectiveTimeout),
+                    e);
+        }
+    }
+
+    public Stream<NatsMessage<T>> stream() {
+        validateForCollection("stream()");
+        return client.streamMessages(subject, messageType, Map.copyOf(this.jsonPathFilters),
+                Map.copyOf(this.metadataFilters), effectiveTimeout());
+    }
+
+    private void validateForCollection(String operation) {
+        if (subject == null) {
+            throw new IllegalStateException("Subject must be specified");
+        }
+        if (unique || sequence != null || lastOnSubject) {
+            throw new IllegalStateException(operation
+                    + " cannot be combined with unique(), withSequence() or lastOnSubject()");
+        }
+    }
+
+    private Duration effectiveTimeout() {
+        Duration candidateTimeout = this.timeout != null ? this.timeout : defaultTimeout;
+        return candidateTimeout.isNegative()
+                ? defaultTimeout
+                : candidateTimeout.truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    static String buildSearchDetails(Map<String, Object> payloadFilters, Map<String, Object> metadataFilters) {
         List<String> parts = metadataFilters.entrySet().stream()
                 .map(entry -> String.format("meta[%s] = %s", entry.getKey(), String.valueOf(entry.getValue())))
                 .collect(Collectors.toList());
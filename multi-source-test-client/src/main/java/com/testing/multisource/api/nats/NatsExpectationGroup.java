@@ -0,0 +1,68 @@
+package com.testing.multisource.api.nats;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NatsExpectationGroup {
+    private final NatsClient client;
+    private final String subject;
+    private final Duration defaultTimeout;
+    private final List<NatsGroupExpectation<?>> expectations = new ArrayList<>();
+    private Duration timeout;
+    private boolean started = false;
+
+    NatsExpectationGroup(NatsClient client, String subject, Duration defaultTimeout) {
+        if (subject == null) {
+            throw new IllegalStateException("Subject must be specified");
+        }
+        this.client = client;
+        this.subject = subject;
+        this.defaultTimeout = defaultTimeout;
+    }
+
+    public synchronized <T> NatsGroupExpectation<T> expect(Class<T> messageType) {
+        if (started) {
+            throw new IllegalStateException("Expectations cannot be added after the group has started");
+        }
+        NatsGroupExpectation<T> expectation = new NatsGroupExpectation<>(this, client, messageType);
+        expectations.add(expectation);
+        return expectation;
+    }
+
+    public synchronized NatsExpectationGroup within(Duration timeout) {
+        if (started) {
+            throw new IllegalStateException("Timeout cannot be changed after the group has started");
+        }
+        this.timeout = timeout;
+        return this;
+    }
+
+    public synchronized NatsExpectationGroup start() {
+        if (started) {
+            return this;
+        }
+        if (expectations.isEmpty()) {
+            throw new IllegalStateException("At least one expectation must be registered");
+        }
+        started = true;
+
+        List<NatsSubscriber.ExpectationSpec<?>> specs = expectations.stream()
+                .<NatsSubscriber.ExpectationSpec<?>>map(NatsGroupExpectation::toSpec)
+                .toList();
+        client.findMessagesAsync(subject, specs, getEffectiveTimeout());
+        return this;
+    }
+
+    String getSubject() {
+        return subject;
+    }
+
+    Duration getEffectiveTimeout() {
+        Duration candidateTimeout = this.timeout != null ? this.timeout : defaultTimeout;
+        return candidateTimeout.isNegative()
+                ? defaultTimeout
+                : candidateTimeout.truncatedTo(ChronoUnit.MILLIS);
+    }
+}
@@ -0,0 +1,91 @@
+package com.testing.multisource.api.nats;
+
+import com.testing.multisource.api.nats.dto.NatsMessage;
+import com.testing.multisource.api.nats.exceptions.NatsDuplicateMessageException;
+import com.testing.multisource.api.nats.exceptions.NatsMessageNotFoundException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class NatsGroupExpectation<T> {
+    private final NatsExpectationGroup group;
+    private final NatsClient client;
+    private final Class<T> messageType;
+    private final Map<String, Object> jsonPathFilters = new LinkedHashMap<>();
+    private final Map<String, Object> metadataFilters = new LinkedHashMap<>();
+    private final CompletableFuture<NatsMessage<T>> future = new CompletableFuture<>();
+    private boolean unique = false;
+    private Duration duplicateWindow;
+
+    NatsGroupExpectation(NatsExpectationGroup group, NatsClient client, Class<T> messageType) {
+        this.group = group;
+        this.client = client;
+        this.messageType = messageType;
+    }
+
+    public NatsGroupExpectation<T> with(String jsonPath, Object expectedValue) {
+        if (jsonPath != null && expectedValue != null) {
+            this.jsonPathFilters.put(jsonPath, expectedValue);
+        }
+        return this;
+    }
+
+    public NatsGroupExpectation<T> withType(String expectedType) {
+        if (expectedType != null) {
+            this.metadataFilters.put("type", expectedType);
+        }
+        return this;
+    }
+
+    public NatsGroupExpectation<T> unique() {
+        this.unique = true;
+        this.duplicateWindow = client.getDefaultUniqueWindow();
+        return this;
+    }
+
+    public NatsGroupExpectation<T> unique(Duration window) {
+        this.unique = true;
+        this.duplicateWindow = window;
+        return this;
+    }
+
+    public CompletableFuture<NatsMessage<T>> future() {
+        group.start();
+        return future;
+    }
+
+    public NatsMessage<T> fetch() {
+        group.start();
+
+        String subject = group.getSubject();
+        Duration effectiveTimeout = group.getEffectiveTimeout();
+        String searchDetails = NatsExpectationBuilder.buildSearchDetails(
+                Map.copyOf(jsonPathFilters), Map.copyOf(metadataFilters));
+
+        try {
+            return client.resolveFuture(subject, messageType, effectiveTimeout, future);
+        } catch (NatsMessageNotFoundException e) {
+            throw new NatsMessageNotFoundException(
+                    String.format("NATS message %s %s not found on subject '%s' within %s.",
+                            messageType.getSimpleName(),
+                            searchDetails,
+                            subject,
+                            effectiveTimeout),
+                    e);
+        } catch (NatsDuplicateMessageException e) {
+            throw new NatsDuplicateMessageException(
+                    String.format("NATS message %s %s expected once on subject '%s' but duplicates detected.",
+                            messageType.getSimpleName(),
+                            searchDetails,
+                            subject),
+                    e);
+        }
+    }
+
+    NatsSubscriber.ExpectationSpec<T> toSpec() {
+        Duration window = unique && duplicateWindow == null ? client.getDefaultUniqueWindow() : duplicateWindow;
+        return new NatsSubscriber.ExpectationSpec<>(messageType, Map.copyOf(jsonPathFilters),
+                Map.copyOf(metadataFilters), unique, window, future);
+    }
+}
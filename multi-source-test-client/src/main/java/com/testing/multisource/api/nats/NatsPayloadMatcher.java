@@ -3,6 +3,8 @@ package com.testing.multisource.api.nats;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
+import com.testing.multisource.api.nats.dto.NatsMessage;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +15,26 @@ import org.springframework.stereotype.Component;
 public class NatsPayloadMatcher {
     private final ObjectMapper objectMapper;
 
-    @SuppressWarnings("rawtypes")
+    // JSONPath runs on the JSON as published (field names and numbers as sent), not on a re-serialized DTO.
+    public boolean matchesAll(NatsMessage<?> message,
+                              Map<String, Object> jsonPathFilters,
+                              Map<String, Object> metadataFilters) {
+        if (!matchesMetadata(message, metadataFilters)) {
+            return false;
+        }
+        if (jsonPathFilters == null || jsonPathFilters.isEmpty()) {
+            return true;
+        }
+        if (message.getData() != null && !message.isPayloadDecoded()) {
+            try {
+                return matchesDocument(readDocument(message.getData()), jsonPathFilters);
+            } catch (IOException e) {
+                return false;
+            }
+        }
+        return matches(message.getPayload(), jsonPathFilters);
+    }
+
     public boolean matches(Object payload, Map<String, Object> filters) {
         if (filters == null || filters.isEmpty()) {
             return true;
@@ -21,10 +42,23 @@ public class NatsPayloadMatcher {
         if (payload == null) {
             return false;
         }
-        Map payloadMap = objectMapper.convertValue(payload, Map.class);
+        return matchesDocument(objectMapper.convertValue(payload, Map.class), filters);
+    }
+
+    public Object readDocument(byte[] data) throws IOException {
+        return objectMapper.readValue(data, Object.class);
+    }
+
+    public boolean matchesDocument(Object document, Map<String, Object> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return true;
+        }
+        if (document == null) {
+            return false;
+        }
         for (Map.Entry<String, Object> filter : filters.entrySet()) {
             try {
-                Object actualValue = JsonPath.read(payloadMap, filter.getKey());
+                Object actualValue = JsonPath.read(document, filter.getKey());
                 if (!Objects.toString(actualValue, null)
                         .equals(Objects.toString(filter.getValue(), null))) {
                     return false;
@@ -35,4 +69,34 @@ public class NatsPayloadMatcher {
         }
         return true;
     }
+
+    public boolean matchesMetadata(NatsMessage<?> message, Map<String, Object> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return true;
+        }
+        for (Map.Entry<String, Object> entry : filters.entrySet()) {
+            String key = entry.getKey();
+            Object expected = entry.getValue();
+            if ("type".equals(key)) {
+                if (!Objects.equals(message.getType(), Objects.toString(expected, null))) {
+                    return false;
+                }
+            } else if ("sequence".equals(key)) {
+                long expectedSeq;
+                if (expected instanceof Number number) {
+                    expectedSeq = number.longValue();
+                } else {
+                    try {
+                        expectedSeq = Long.parseLong(Objects.toString(expected, null));
+                    } catch (NumberFormatException ex) {
+                        return false;
+                    }
+                }
+                if (message.getSequence() != expectedSeq) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
@@ -1,12 +1,10 @@
 package com.testing.multisource.api.nats;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.testing.multisource.api.nats.dto.NatsMessage;
 import io.nats.client.api.AckPolicy;
 import io.nats.client.Dispatcher;
-import io.nats.client.JetStream;
 import io.nats.client.JetStreamApiException;
 import io.nats.client.Message;
 import io.nats.client.MessageHandler;
@@ -25,8 +23,11 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -34,11 +35,11 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Slf4j
 class NatsSubscriber {
-    private final io.nats.client.Connection nc;
-    private final JetStream js;
+    private final NatsConnectionManager connectionManager;
     private final ObjectMapper objectMapper;
     private final NatsAttachmentHelper attachmentHelper;
     private final NatsPayloadMatcher payloadMatcher;
@@ -50,15 +51,33 @@ class NatsSubscriber {
     private final int subscriptionRetryCount;
     private final long subscriptionRetryDelayMs;
     private final boolean failOnDeserialization;
+    private final Duration uniqueCatchUpGrace;
 
     private interface MatchHandlingStrategy<T> {
         void onFirstMatch(NatsMessage<T> message);
         void onDuplicateMatch(NatsMessage<T> message);
         boolean isCompleted();
+        default void onDelivered(long streamSequence, long pending) {
+        }
+    }
+
+    record ExpectationSpec<T>(Class<T> messageType,
+                              Map<String, Object> jsonPathFilters,
+                              Map<String, Object> metadataFilters,
+                              boolean unique,
+                              Duration duplicateWindow,
+                              CompletableFuture<NatsMessage<T>> future) {
+    }
+
+    private record Expectation<T>(JavaType javaType,
+                                  Map<String, Object> jsonPathFilters,
+                                  Map<String, Object> metadataFilters,
+                                  AtomicBoolean firstMatch,
+                                  MatchHandlingStrategy<T> strategy,
+                                  CompletableFuture<?> future) {
     }
 
-    NatsSubscriber(io.nats.client.Connection nc,
-                   JetStream js,
+    NatsSubscriber(NatsConnectionManager connectionManager,
                    ObjectMapper objectMapper,
                    NatsAttachmentHelper attachmentHelper,
                    NatsPayloadMatcher payloadMatcher,
@@ -69,9 +88,9 @@ class NatsSubscriber {
                    int subscriptionBufferSize,
                    int subscriptionRetryCount,
                    long subscriptionRetryDelayMs,
-                   boolean failOnDeserialization) {
-        this.nc = nc;
-        this.js = js;
+                   boolean failOnDeserialization,
+                   Duration uniqueCatchUpGrace) {
+        this.connectionManager = connectionManager;
         this.objectMapper = objectMapper;
         this.attachmentHelper = attachmentHelper;
         this.payloadMatcher = payloadMatcher;
@@ -83,6 +102,7 @@ class NatsSubscriber {
         this.subscriptionRetryCount = subscriptionRetryCount;
         this.subscriptionRetryDelayMs = subscriptionRetryDelayMs;
         this.failOnDeserialization = failOnDeserialization;
+        this.uniqueCatchUpGrace = uniqueCatchUpGrace;
     }
 
     <T> CompletableFuture<NatsMessage<T>> findMessageAsync(String subject,
@@ -124,6 +144,47 @@ class NatsSubscriber {
         return future;
     }
 
+    <T> CompletableFuture<List<NatsMessage<T>>> collectMessagesAsync(String subject,
+                                                                     Class<T> messageType,
+                                                                     Map<String, Object> jsonPathFilters,
+                                                                     Map<String, Object> metadataFilters,
+                                                                     int limit,
+                                                                     Consumer<NatsMessage<T>> listener,
+                                                                     Duration timeout) {
+        CompletableFuture<List<NatsMessage<T>>> future = new CompletableFuture<>();
+        Duration effectiveTimeout = timeout != null ? timeout : this.searchTimeout;
+        String logPrefix = String.format("NATS COLLECT [%s -> %s]", this.streamName, subject);
+
+        attachmentHelper.addSearchInfo(subject, messageType, effectiveTimeout, jsonPathFilters, metadataFilters,
+                limit > 0 ? "collect (count=" + limit + ")" : "stream (until timeout)");
+
+        subscribeWithRetries(subject, future, logPrefix,
+                () -> startCollectSubscription(subject, messageType, jsonPathFilters, metadataFilters,
+                        limit, listener, future, logPrefix, effectiveTimeout));
+
+        return future;
+    }
+
+    void findMessagesAsync(String subject, List<ExpectationSpec<?>> specs, Duration timeout) {
+        Duration effectiveTimeout = timeout != null ? timeout : this.searchTimeout;
+        String logPrefix = String.format("NATS SEARCH GROUP [%s -> %s]", this.streamName, subject);
+
+        for (ExpectationSpec<?> spec : specs) {
+            attachmentHelper.addSearchInfo(subject, spec.messageType(), effectiveTimeout,
+                    spec.jsonPathFilters(), spec.metadataFilters(), spec.unique(), spec.duplicateWindow());
+        }
+
+        CompletableFuture<Void> subscriptionFuture = new CompletableFuture<>();
+        subscriptionFuture.whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                specs.forEach(spec -> spec.future().completeExceptionally(ex));
+            }
+        });
+
+        subscribeWithRetries(subject, subscriptionFuture, logPrefix,
+                () -> startGroupSubscription(subject, specs, subscriptionFuture, logPrefix, effectiveTimeout));
+    }
+
     private <T> Dispatcher startSubscription(String subject,
                                              Class<T> messageType,
                                              Map<String, Object> jsonPathFilters,
@@ -131,32 +192,18 @@ class NatsSubscriber {
                                              CompletableFuture<NatsMessage<T>> future,
                                              String logPrefix,
                                              Duration timeout) throws IOException, JetStreamApiException {
-        Dispatcher dispatcher = nc.createDispatcher();
-        JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
-        final Dispatcher dispatcherRef = dispatcher;
-        final AtomicReference<Subscription> subHolder = new AtomicReference<>();
-        final AtomicBoolean firstMatch = new AtomicBoolean(false);
-
-        MatchHandlingStrategy<T> strategy = new MatchHandlingStrategy<>() {
-            private final AtomicBoolean completed = new AtomicBoolean(false);
-            @Override public void onFirstMatch(NatsMessage<T> message) {
-                attachmentHelper.addNatsAttachment("NATS Message Found", message);
-                future.complete(message);
-                unsubscribeAndClose(dispatcherRef, subHolder.get(), logPrefix + " after match");
-                completed.set(true);
-            }
-            @Override public void onDuplicateMatch(NatsMessage<T> message) {
-            }
-            @Override public boolean isCompleted() { return completed.get(); }
-        };
+        NatsConnectionManager.Lane lane = connectionManager.laneFor(subject);
+        Dispatcher dispatcher = lane.nextDispatcher();
 
-        MessageHandler handler = msg ->
-                processIncomingMessage(msg, javaType, jsonPathFilters, metadataFilters,
-                        firstMatch, strategy, logPrefix, future);
+        FirstMatchStrategy<T> strategy = new FirstMatchStrategy<>(future);
+        List<Expectation<?>> expectations = List.of(
+                toExpectation(messageType, jsonPathFilters, metadataFilters, strategy, future));
 
-        subHolder.set(createSubscription(subject, dispatcherRef, handler));
+        MessageHandler handler = msg -> processIncomingMessage(msg, expectations, logPrefix);
 
-        awaitMessageFuture(future, dispatcherRef, subHolder.get(), logPrefix, timeout);
+        Subscription subscription = createSubscription(lane, subject, dispatcher, handler);
+
+        awaitMessageFuture(future, dispatcher, subscription, logPrefix, timeout);
         return dispatcher;
     }
 
@@ -168,65 +215,123 @@ class NatsSubscriber {
                                                    String logPrefix,
                                                    Duration duplicateWindow,
                                                    Duration timeout) throws IOException, JetStreamApiException {
-        Dispatcher dispatcher = nc.createDispatcher();
-        JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
-        final Dispatcher dispatcherRef = dispatcher;
-        final AtomicReference<Subscription> subHolder = new AtomicReference<>();
-        final AtomicReference<NatsMessage<T>> resultRef = new AtomicReference<>();
-        final AtomicBoolean duplicateFound = new AtomicBoolean(false);
-        final AtomicBoolean firstMatch = new AtomicBoolean(false);
-        final long startTime = System.currentTimeMillis();
-        final AtomicLong firstMatchElapsed = new AtomicLong(-1L);
-        Duration effectiveTimeout = timeout != null ? timeout : searchTimeout;
-        Duration window = (duplicateWindow == null || duplicateWindow.compareTo(effectiveTimeout) > 0)
-                ? effectiveTimeout : duplicateWindow;
-        final long windowMs = window.toMillis();
+        NatsConnectionManager.Lane lane = connectionManager.laneFor(subject);
+        Dispatcher dispatcher = lane.nextDispatcher();
 
-        MatchHandlingStrategy<T> strategy = new MatchHandlingStrategy<>() {
-            @Override public void onFirstMatch(NatsMessage<T> message) {
-                attachmentHelper.addNatsAttachment("NATS Message Found", message);
-                resultRef.set(message);
-                firstMatchElapsed.set(System.currentTimeMillis() - startTime);
-            }
-            @Override public void onDuplicateMatch(NatsMessage<T> message) {
-                duplicateFound.set(true);
-                attachmentHelper.addNatsAttachment("NATS Duplicate Message", message);
-                future.completeExceptionally(new NatsDuplicateMessageException("More than one message matched filter"));
-                unsubscribeAndClose(dispatcherRef, subHolder.get(), logPrefix + " after duplicate");
-                log.info("{} | subject={} firstMatchElapsedMs={} windowMs={} duplicate=true", logPrefix, subject, firstMatchElapsed.get(), windowMs);
-            }
-            @Override public boolean isCompleted() { return future.isDone(); }
-        };
+        UniqueMatchStrategy<T> strategy = new UniqueMatchStrategy<>(subject, logPrefix, future,
+                effectiveWindow(duplicateWindow, timeout));
+        List<Expectation<?>> expectations = List.of(
+                toExpectation(messageType, jsonPathFilters, metadataFilters, strategy, future));
 
-        MessageHandler handler = msg ->
-                processIncomingMessage(msg, javaType, jsonPathFilters, metadataFilters,
-                        firstMatch, strategy, logPrefix, future);
+        MessageHandler handler = msg -> processIncomingMessage(msg, expectations, logPrefix);
 
-        subHolder.set(createSubscription(subject, dispatcherRef, handler));
+        Subscription subscription = createSubscription(lane, subject, dispatcher, handler);
 
-        awaitUniqueMessageFuture(resultRef, duplicateFound, future, dispatcherRef, subHolder.get(),
-                logPrefix, window, firstMatchElapsed, subject);
+        // The dispatcher is shared, so the subscription must be released even if it completed while subscribing.
+        future.whenComplete((result, ex) -> unsubscribeSafely(dispatcher, subscription, logPrefix + " on completion"));
+        strategy.scheduleWindow();
         return dispatcher;
     }
 
-    private <T> void subscribeWithRetries(String subject,
-                                          CompletableFuture<NatsMessage<T>> future,
-                                          String logPrefix,
-                                          Callable<Dispatcher> subscriptionLogic) {
+    private <T> Dispatcher startCollectSubscription(String subject,
+                                                    Class<T> messageType,
+                                                    Map<String, Object> jsonPathFilters,
+                                                    Map<String, Object> metadataFilters,
+                                                    int limit,
+                                                    Consumer<NatsMessage<T>> listener,
+                                                    CompletableFuture<List<NatsMessage<T>>> future,
+                                                    String logPrefix,
+                                                    Duration timeout) throws IOException, JetStreamApiException {
+        NatsConnectionManager.Lane lane = connectionManager.laneFor(subject);
+        Dispatcher dispatcher = lane.nextDispatcher();
+
+        CollectStrategy<T> strategy = new CollectStrategy<>(logPrefix, limit, listener, future);
+        List<Expectation<?>> expectations = List.of(
+                toExpectation(messageType, jsonPathFilters, metadataFilters, strategy, future));
+
+        MessageHandler handler = msg -> processIncomingMessage(msg, expectations, logPrefix);
+
+        Subscription subscription = createSubscription(lane, subject, dispatcher, handler);
+
+        future.whenComplete((result, ex) -> {
+            attachmentHelper.addCollectedAttachment("NATS Messages Collected", strategy.snapshot());
+            unsubscribeSafely(dispatcher, subscription, logPrefix + " on completion");
+        });
+        strategy.scheduleDeadline(timeout);
+        return dispatcher;
+    }
+
+    private Dispatcher startGroupSubscription(String subject,
+                                              List<ExpectationSpec<?>> specs,
+                                              CompletableFuture<Void> subscriptionFuture,
+                                              String logPrefix,
+                                              Duration timeout) throws IOException, JetStreamApiException {
+        NatsConnectionManager.Lane lane = connectionManager.laneFor(subject);
+        Dispatcher dispatcher = lane.nextDispatcher();
+        List<Expectation<?>> expectations = specs.stream()
+                .<Expectation<?>>map(spec -> toGroupExpectation(subject, spec, logPrefix, timeout))
+                .toList();
+
+        MessageHandler handler = msg -> processIncomingMessage(msg, expectations, logPrefix);
+
+        Subscription subscription = createSubscription(lane, subject, dispatcher, handler);
+
+        CompletableFuture<?>[] futures = specs.stream()
+                .map(ExpectationSpec::future)
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).whenComplete((ignored, ex) -> {
+            subscriptionFuture.complete(null);
+            unsubscribeSafely(dispatcher, subscription, logPrefix + " on completion");
+        });
+
+        for (Expectation<?> expectation : expectations) {
+            if (expectation.strategy() instanceof UniqueMatchStrategy<?> unique) {
+                unique.scheduleWindow();
+            } else {
+                expectation.future().orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        return dispatcher;
+    }
+
+    private <T> Expectation<T> toGroupExpectation(String subject,
+                                                  ExpectationSpec<T> spec,
+                                                  String logPrefix,
+                                                  Duration timeout) {
+        String memberPrefix = logPrefix + " " + spec.messageType().getSimpleName();
+        MatchHandlingStrategy<T> strategy = spec.unique()
+                ? new UniqueMatchStrategy<>(subject, memberPrefix, spec.future(),
+                        effectiveWindow(spec.duplicateWindow(), timeout))
+                : new FirstMatchStrategy<>(spec.future());
+        return toExpectation(spec.messageType(), spec.jsonPathFilters(), spec.metadataFilters(),
+                strategy, spec.future());
+    }
+
+    private <T> Expectation<T> toExpectation(Class<T> messageType,
+                                             Map<String, Object> jsonPathFilters,
+                                             Map<String, Object> metadataFilters,
+                                             MatchHandlingStrategy<T> strategy,
+                                             CompletableFuture<?> future) {
+        JavaType javaType = objectMapper.getTypeFactory().constructType(messageType);
+        return new Expectation<>(javaType, jsonPathFilters, metadataFilters, new AtomicBoolean(false),
+                strategy, future);
+    }
+
+    private Duration effectiveWindow(Duration duplicateWindow, Duration timeout) {
+        Duration effectiveTimeout = timeout != null ? timeout : searchTimeout;
+        return (duplicateWindow == null || duplicateWindow.compareTo(effectiveTimeout) > 0)
+                ? effectiveTimeout : duplicateWindow;
+    }
+
+    private void subscribeWithRetries(String subject,
+                                      CompletableFuture<?> future,
+                                      String logPrefix,
+                                      Callable<Dispatcher> subscriptionLogic) {
         for (int attempt = 1; attempt <= this.subscriptionRetryCount; attempt++) {
-            Dispatcher dispatcher = null;
             try {
-                dispatcher = subscriptionLogic.call();
+                subscriptionLogic.call();
                 return;
             } catch (Exception e) {
-                if (dispatcher != null) {
-                    try {
-                        nc.closeDispatcher(dispatcher);
-                    } catch (Exception closeEx) {
-                        log.warn("{} | Failed to close dispatcher after error: {}", logPrefix, closeEx.getMessage());
-                    }
-                }
-
                 log.warn("{} | Attempt {}/{} to create NATS subscription failed: {}",
                         logPrefix, attempt, this.subscriptionRetryCount, e.getMessage());
 
@@ -256,7 +361,10 @@ class NatsSubscriber {
                 new NatsMessageNotFoundException("Exited subscription retry loop unexpectedly for " + subject));
     }
 
-    private Subscription createSubscription(String subject, Dispatcher dispatcher, MessageHandler handler)
+    private Subscription createSubscription(NatsConnectionManager.Lane lane,
+                                            String subject,
+                                            Dispatcher dispatcher,
+                                            MessageHandler handler)
             throws IOException, JetStreamApiException {
         PushSubscribeOptions pso = PushSubscribeOptions.builder()
                 .stream(this.streamName)
@@ -270,18 +378,12 @@ class NatsSubscriber {
                                 .replayPolicy(ReplayPolicy.Instant)
                                 .build()
                 ).build();
-        return js.subscribe(subject, dispatcher, handler, false, pso);
+        return lane.jetStream().subscribe(subject, dispatcher, handler, false, pso);
     }
 
-    private <T> void processIncomingMessage(Message msg,
-                                            JavaType javaType,
-                                            Map<String, Object> jsonPathFilters,
-                                            Map<String, Object> metadataFilters,
-                                            AtomicBoolean firstMatch,
-                                            MatchHandlingStrategy<T> strategy,
-                                            String logPrefix,
-                                            CompletableFuture<NatsMessage<T>> future) {
+    private void processIncomingMessage(Message msg, List<Expectation<?>> expectations, String logPrefix) {
         long msgSeq = -1L;
+        long pending = -1L;
         String msgType = null;
         OffsetDateTime timestamp = null;
 
@@ -290,6 +392,7 @@ class NatsSubscriber {
                 NatsJetStreamMetaData meta = msg.metaData();
                 if (meta != null) {
                     msgSeq = meta.streamSequence();
+                    pending = meta.pendingCount();
                     ZonedDateTime ts = meta.timestamp();
                     if (ts != null) {
                         timestamp = ts.toOffsetDateTime();
@@ -304,47 +407,86 @@ class NatsSubscriber {
 
             msgType = msg.getHeaders() != null ? msg.getHeaders().getFirst("type") : null;
 
-            T payload;
-            try {
-                payload = objectMapper.readValue(msg.getData(), javaType);
-            } catch (JsonProcessingException e) {
-                if (failOnDeserialization) {
-                    log.warn("{} | Failed JSON unmarshal seq={}: {}. Nacking msg.", logPrefix, msgSeq, e.getMessage());
-                    safeNack(msg);
-                    future.completeExceptionally(new NatsDeserializationException("Failed to deserialize NATS message", e));
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("{} | JSON unmarshal failed seq={} → TERM/ACK and continue", logPrefix, msgSeq);
-                    }
-                    safeTermOrAck(msg);
+            Delivery delivery = new Delivery(msg, msgSeq, msgType, timestamp);
+            List<Runnable> matches = new ArrayList<>();
+            boolean failed = false;
+            for (Expectation<?> expectation : expectations) {
+                if (expectation.future().isDone()) {
+                    continue;
                 }
-                return;
+                failed |= !evaluate(delivery, expectation, matches, logPrefix);
             }
 
-            NatsMessage<T> result = buildNatsMessage(msg, payload, msgSeq, msgType, timestamp);
-
-            if (!matchesAll(result, jsonPathFilters, metadataFilters)) {
+            if (failed) {
+                safeNack(msg);
+            } else if (!matches.isEmpty()) {
+                safeAck(msg);
+                matches.forEach(Runnable::run);
+            } else {
                 safeTermOrAck(msg);
                 if (log.isDebugEnabled()) {
                     log.debug("{} | Non-match terminated: seq={}, subj={}, type={}", logPrefix, msgSeq, msg.getSubject(), msgType);
                 }
-                return;
             }
+        } catch (Exception e) {
+            log.error("{} | Error processing NATS msg (seq≈{}, type≈{}): {}", logPrefix, msgSeq, msgType, e.getMessage(), e);
+            safeNack(msg);
+            expectations.forEach(expectation -> expectation.future().completeExceptionally(
+                    new NatsDeserializationException("Unexpected error processing NATS message", e)));
+        } finally {
+            if (pending >= 0) {
+                for (Expectation<?> expectation : expectations) {
+                    expectation.strategy().onDelivered(msgSeq, pending);
+                }
+            }
+        }
+    }
 
-            safeAck(msg);
+    private <T> boolean evaluate(Delivery delivery,
+                                 Expectation<T> expectation,
+                                 List<Runnable> matches,
+                                 String logPrefix) {
+        NatsMessage<T> result = delivery.view(expectation.javaType());
+        if (!payloadMatcher.matchesMetadata(result, expectation.metadataFilters())) {
+            return true;
+        }
+
+        try {
+            Map<String, Object> jsonPathFilters = expectation.jsonPathFilters();
+            if (jsonPathFilters != null && !jsonPathFilters.isEmpty()
+                    && !payloadMatcher.matchesDocument(delivery.document(), jsonPathFilters)) {
+                return true;
+            }
+            // The accepted candidate is decoded here, so a payload that does not map onto T never matches.
+            if (result.getPayload() == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("{} | JSON unmarshal failed seq={} → TERM/ACK and continue", logPrefix, result.getSequence());
+                }
+                return true;
+            }
+        } catch (NatsDeserializationException e) {
+            if (failOnDeserialization) {
+                log.warn("{} | Failed JSON unmarshal seq={}: {}. Nacking msg.", logPrefix, result.getSequence(), e.getMessage());
+                expectation.future().completeExceptionally(e);
+                return false;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("{} | JSON unmarshal failed seq={} → TERM/ACK and continue", logPrefix, result.getSequence());
+            }
+            return true;
+        }
 
+        matches.add(() -> {
+            MatchHandlingStrategy<T> strategy = expectation.strategy();
             if (!strategy.isCompleted()) {
-                if (firstMatch.compareAndSet(false, true)) {
+                if (expectation.firstMatch().compareAndSet(false, true)) {
                     strategy.onFirstMatch(result);
                 } else {
                     strategy.onDuplicateMatch(result);
                 }
             }
-        } catch (Exception e) {
-            log.error("{} | Error processing NATS msg (seq≈{}, type≈{}): {}", logPrefix, msgSeq, msgType, e.getMessage(), e);
-            safeNack(msg);
-            future.completeExceptionally(new NatsDeserializationException("Unexpected error processing NATS message", e));
-        }
+        });
+        return true;
     }
 
     private <T> void awaitMessageFuture(CompletableFuture<NatsMessage<T>> future,
@@ -361,91 +503,211 @@ class NatsSubscriber {
             else if (ex != null) {
                 log.error("{} with Exception: {}", completionLogPrefix, ex.getMessage(), ex);
             }
-            unsubscribeAndClose(dispatcher, subscription, logPrefix + " on completion");
+            unsubscribeSafely(dispatcher, subscription, logPrefix + " on completion");
         });
     }
 
-    private <T> void awaitUniqueMessageFuture(AtomicReference<NatsMessage<T>> resultRef,
-                                              AtomicBoolean duplicateFound,
-                                              CompletableFuture<NatsMessage<T>> future,
-                                              Dispatcher dispatcher,
-                                              Subscription subscription,
-                                              String logPrefix,
-                                              Duration window,
-                                              AtomicLong firstMatchElapsed,
-                                              String subject) {
-        Duration effectiveWindow = (window == null || window.isNegative()) ? searchTimeout : window;
-        CompletableFuture.delayedExecutor(effectiveWindow.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
-            try {
-                if (future.isDone()) return;
-                boolean duplicate = duplicateFound.get();
-                log.info("{} | subject={} firstMatchElapsedMs={} windowMs={} duplicate={}",
-                        logPrefix, subject, firstMatchElapsed.get(), effectiveWindow.toMillis(), duplicate);
-                if (duplicate) {
-                    future.completeExceptionally(new NatsDuplicateMessageException("More than one message matched filter"));
+    private final class FirstMatchStrategy<T> implements MatchHandlingStrategy<T> {
+        private final CompletableFuture<NatsMessage<T>> future;
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        private FirstMatchStrategy(CompletableFuture<NatsMessage<T>> future) {
+            this.future = future;
+        }
+
+        @Override public void onFirstMatch(NatsMessage<T> message) {
+            attachmentHelper.addNatsAttachment("NATS Message Found", message);
+            future.complete(message);
+            completed.set(true);
+        }
+        @Override public void onDuplicateMatch(NatsMessage<T> message) {
+        }
+        @Override public boolean isCompleted() { return completed.get(); }
+    }
+
+    private final class UniqueMatchStrategy<T> implements MatchHandlingStrategy<T> {
+        private final String subject;
+        private final String logPrefix;
+        private final CompletableFuture<NatsMessage<T>> future;
+        private final Duration window;
+        private final AtomicReference<NatsMessage<T>> resultRef = new AtomicReference<>();
+        private final AtomicBoolean duplicateFound = new AtomicBoolean(false);
+        private final AtomicBoolean caughtUp = new AtomicBoolean(false);
+        private final AtomicLong firstMatchElapsed = new AtomicLong(-1L);
+        private final long startTime = System.currentTimeMillis();
+
+        private UniqueMatchStrategy(String subject,
+                                    String logPrefix,
+                                    CompletableFuture<NatsMessage<T>> future,
+                                    Duration window) {
+            this.subject = subject;
+            this.logPrefix = logPrefix;
+            this.future = future;
+            this.window = window;
+        }
+
+        @Override public void onFirstMatch(NatsMessage<T> message) {
+            attachmentHelper.addNatsAttachment("NATS Message Found", message);
+            resultRef.set(message);
+            firstMatchElapsed.set(System.currentTimeMillis() - startTime);
+        }
+        @Override public void onDuplicateMatch(NatsMessage<T> message) {
+            duplicateFound.set(true);
+            attachmentHelper.addNatsAttachment("NATS Duplicate Message", message);
+            future.completeExceptionally(new NatsDuplicateMessageException("More than one message matched filter"));
+            log.info("{} | subject={} firstMatchElapsedMs={} windowMs={} duplicate=true", logPrefix, subject, firstMatchElapsed.get(), window.toMillis());
+        }
+        @Override public boolean isCompleted() { return future.isDone(); }
+        @Override public void onDelivered(long streamSequence, long pending) {
+            // pending is the consumer's numPending at delivery time: once it reaches zero after
+            // the first match, everything stored on the subject up to now has been replayed.
+            if (pending != 0 || resultRef.get() == null || future.isDone()) {
+                return;
+            }
+            if (caughtUp.compareAndSet(false, true)) {
+                log.debug("{} | Replay caught up at seq={} elapsedMs={}, completing after grace {}",
+                        logPrefix, streamSequence, System.currentTimeMillis() - startTime, uniqueCatchUpGrace);
+                CompletableFuture.delayedExecutor(uniqueCatchUpGrace.toMillis(), TimeUnit.MILLISECONDS)
+                        .execute(() -> complete(true));
+            }
+        }
+
+        void scheduleWindow() {
+            CompletableFuture.delayedExecutor(window.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> complete(false));
+        }
+
+        private void complete(boolean caughtUpBeforeWindow) {
+            if (future.isDone()) return;
+            boolean duplicate = duplicateFound.get();
+            log.info("{} | subject={} firstMatchElapsedMs={} windowMs={} caughtUp={} duplicate={}",
+                    logPrefix, subject, firstMatchElapsed.get(), window.toMillis(), caughtUpBeforeWindow, duplicate);
+            if (duplicate) {
+                future.completeExceptionally(new NatsDuplicateMessageException("More than one message matched filter"));
+            } else {
+                NatsMessage<T> result = resultRef.get();
+                if (result != null) {
+                    future.complete(result);
                 } else {
-                    NatsMessage<T> result = resultRef.get();
-                    if (result != null) {
-                        future.complete(result);
-                    } else {
-                        future.completeExceptionally(new NatsMessageNotFoundException("No matching message found"));
-                    }
+                    future.completeExceptionally(new NatsMessageNotFoundException("No matching message found"));
                 }
-            } finally {
-                unsubscribeAndClose(dispatcher, subscription, logPrefix + " on completion");
             }
-        });
+        }
     }
 
-    private <T> NatsMessage<T> buildNatsMessage(Message msg,
-                                                T payload,
-                                                long sequence,
-                                                String type,
-                                                OffsetDateTime timestamp) {
-        return NatsMessage.<T>builder()
-                .payload(payload)
-                .subject(msg.getSubject())
-                .type(type)
-                .sequence(sequence)
-                .timestamp(timestamp)
-                .build();
-    }
+    private final class CollectStrategy<T> implements MatchHandlingStrategy<T> {
+        private final String logPrefix;
+        private final int limit;
+        private final Consumer<NatsMessage<T>> listener;
+        private final CompletableFuture<List<NatsMessage<T>>> future;
+        private final Map<Long, NatsMessage<T>> collected = new TreeMap<>();
+
+        private CollectStrategy(String logPrefix,
+                                int limit,
+                                Consumer<NatsMessage<T>> listener,
+                                CompletableFuture<List<NatsMessage<T>>> future) {
+            this.logPrefix = logPrefix;
+            this.limit = limit;
+            this.listener = listener;
+            this.future = future;
+        }
+
+        @Override public void onFirstMatch(NatsMessage<T> message) {
+            collect(message);
+        }
+        @Override public void onDuplicateMatch(NatsMessage<T> message) {
+            collect(message);
+        }
+        @Override public boolean isCompleted() { return future.isDone(); }
 
-    private <T> boolean matchesAll(NatsMessage<T> message,
-                                   Map<String, Object> jsonPathFilters,
-                                   Map<String, Object> metadataFilters) {
-        return matchesMetadata(message, metadataFilters)
-                && payloadMatcher.matches(message.getPayload(), jsonPathFilters);
+        // Redeliveries carry the same stream sequence, so keying by it keeps each message once.
+        private synchronized void collect(NatsMessage<T> message) {
+            if (future.isDone() || collected.putIfAbsent(message.getSequence(), message) != null) {
+                return;
+            }
+            if (listener != null) {
+                listener.accept(message);
+            }
+            if (limit > 0 && collected.size() >= limit) {
+                log.info("{} | Collected {} message(s)", logPrefix, collected.size());
+                future.complete(List.copyOf(collected.values()));
+            }
+        }
+
+        synchronized List<NatsMessage<T>> snapshot() {
+            return List.copyOf(collected.values());
+        }
+
+        void scheduleDeadline(Duration timeout) {
+            CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(this::expire);
+        }
+
+        private synchronized void expire() {
+            if (future.isDone()) return;
+            if (limit > 0) {
+                log.warn("{} | Collected {} of {} message(s) before timeout", logPrefix, collected.size(), limit);
+                future.completeExceptionally(new NatsMessageNotFoundException(
+                        String.format("Collected %d of %d matching messages", collected.size(), limit)));
+            } else {
+                log.info("{} | Stream finished with {} message(s)", logPrefix, collected.size());
+                future.complete(List.copyOf(collected.values()));
+            }
+        }
     }
 
-    private boolean matchesMetadata(NatsMessage<?> message, Map<String, Object> filters) {
-        if (filters == null || filters.isEmpty()) {
-            return true;
+    private final class Delivery {
+        private final Message msg;
+        private final long sequence;
+        private final String type;
+        private final OffsetDateTime timestamp;
+        private final Map<JavaType, NatsMessage<?>> views = new HashMap<>();
+        private Object document;
+        private boolean documentRead;
+
+        private Delivery(Message msg, long sequence, String type, OffsetDateTime timestamp) {
+            this.msg = msg;
+            this.sequence = sequence;
+            this.type = type;
+            this.timestamp = timestamp;
         }
-        for (Map.Entry<String, Object> entry : filters.entrySet()) {
-            String key = entry.getKey();
-            Object expected = entry.getValue();
-            if ("type".equals(key)) {
-                if (!Objects.equals(message.getType(), Objects.toString(expected, null))) {
-                    return false;
-                }
-            } else if ("sequence".equals(key)) {
-                long expectedSeq;
-                if (expected instanceof Number number) {
-                    expectedSeq = number.longValue();
-                } else {
-                    try {
-                        expectedSeq = Long.parseLong(Objects.toString(expected, null));
-                    } catch (NumberFormatException ex) {
-                        return false;
-                    }
-                }
-                if (message.getSequence() != expectedSeq) {
-                    return false;
+
+        // One lazily decoded view per payload type, shared by every expectation of that type.
+        @SuppressWarnings("unchecked")
+        <T> NatsMessage<T> view(JavaType javaType) {
+            return (NatsMessage<T>) views.computeIfAbsent(javaType, key -> NatsMessage.<T>builder()
+                    .data(msg.getData())
+                    .headers(msg.getHeaders())
+                    .decoder(bytes -> decode(bytes, key))
+                    .subject(msg.getSubject())
+                    .type(type)
+                    .sequence(sequence)
+                    .timestamp(timestamp)
+                    .build());
+        }
+
+        Object document() {
+            if (!documentRead) {
+                try {
+                    document = payloadMatcher.readDocument(msg.getData());
+                } catch (IOException e) {
+                    throw new NatsDeserializationException("Failed to deserialize NATS message", e);
                 }
+                documentRead = true;
             }
+            return document;
+        }
+    }
+
+    private <T> T decode(byte[] data, JavaType javaType) {
+        try {
+            return objectMapper.readValue(data, javaType);
+        } catch (IOException e) {
+            if (failOnDeserialization) {
+                throw new NatsDeserializationException("Failed to deserialize NATS message", e);
+            }
+            log.debug("NATS | JSON unmarshal into {} failed: {}", javaType, e.getMessage());
+            return null;
         }
-        return true;
     }
 
     private void safeAck(Message msg) {
@@ -506,13 +768,4 @@ class NatsSubscriber {
             }
         }
     }
-
-    private void unsubscribeAndClose(Dispatcher d, Subscription sub, String ctx) {
-        unsubscribeSafely(d, sub, ctx);
-        try {
-            if (d != null) nc.closeDispatcher(d);
-        } catch (Exception e) {
-            log.warn("{} | closeDispatcher failed: {}", ctx, e.getMessage());
-        }
-    }
 }
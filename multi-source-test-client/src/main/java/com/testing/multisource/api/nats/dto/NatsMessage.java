@@ -1,17 +1,67 @@
 package com.testing.multisource.api.nats.dto;
 
+import io.nats.client.impl.Headers;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 import java.time.OffsetDateTime;
+import java.util.function.Function;
 
 @Getter
 @ToString
-@Builder
 public class NatsMessage<T> {
-    private final T payload;
     private final String subject;
     private final String type;
     private final long sequence;
     private final OffsetDateTime timestamp;
-}
\ No newline at end of file
+    @ToString.Exclude
+    private final byte[] data;
+    @ToString.Exclude
+    private final Headers headers;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Function<byte[], T> decoder;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile T payload;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile boolean decoded;
+
+    @Builder
+    private NatsMessage(T payload,
+                        byte[] data,
+                        Headers headers,
+                        Function<byte[], T> decoder,
+                        String subject,
+                        String type,
+                        long sequence,
+                        OffsetDateTime timestamp) {
+        this.payload = payload;
+        this.data = data;
+        this.headers = headers;
+        this.decoder = decoder;
+        this.subject = subject;
+        this.type = type;
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.decoded = payload != null || decoder == null || data == null;
+    }
+
+    public T getPayload() {
+        if (!decoded) {
+            synchronized (this) {
+                if (!decoded) {
+                    payload = data.length > 0 ? decoder.apply(data) : null;
+                    decoded = true;
+                }
+            }
+        }
+        return payload;
+    }
+
+    public boolean isPayloadDecoded() {
+        return decoded;
+    }
+}
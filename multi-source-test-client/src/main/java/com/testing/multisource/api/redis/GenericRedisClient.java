@@ -16,6 +16,13 @@ public class GenericRedisClient<T> {
     private final ObjectMapper objectMapper;
     private final AllureAttachmentService attachmentService;
     private final RedisAwaitilityProperties awaitilityProperties;
+    private final RedisKeyspaceNotifier keyspaceNotifier;
+    private final boolean serverSidePredicates;
+    private final String versionField;
+    private final RedisCoalescingPoller coalescingPoller;
+    private final RedisConnectionStripes connectionStripes;
+    private final RedisTemplate<String, byte[]> binaryTemplate;
+    private final RedisClientSideCache clientSideCache;
 
     public GenericRedisClient(String beanName,
                               String instanceName,
@@ -23,14 +30,27 @@ public class GenericRedisClient<T> {
                               RedisTypeMappingRegistry typeMappingRegistry,
                               ObjectMapper objectMapper,
                               AllureAttachmentService attachmentService,
-                              RedisAwaitilityProperties awaitilityProperties) {
+                              RedisAwaitilityProperties awaitilityProperties,
+                              RedisKeyspaceNotifier keyspaceNotifier,
+                              boolean serverSidePredicates,
+                              RedisCoalescingPoller coalescingPoller,
+                              RedisConnectionStripes connectionStripes,
+                              RedisTemplate<String, byte[]> binaryTemplate,
+                              RedisClientSideCache clientSideCache) {
         this.beanName = Objects.requireNonNull(beanName, "beanName");
         this.instanceName = Objects.requireNonNull(instanceName, "instanceName");
         this.redisTemplate = Objects.requireNonNull(redisTemplate, "redisTemplate");
         this.typeReference = typeMappingRegistry.resolve(instanceName);
+        this.versionField = typeMappingRegistry.versionField(instanceName);
+        this.coalescingPoller = coalescingPoller;
+        this.connectionStripes = connectionStripes;
+        this.binaryTemplate = binaryTemplate;
+        this.clientSideCache = clientSideCache;
         this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper");
         this.attachmentService = Objects.requireNonNull(attachmentService, "attachmentService");
         this.awaitilityProperties = Objects.requireNonNull(awaitilityProperties, "awaitilityProperties");
+        this.keyspaceNotifier = keyspaceNotifier;
+        this.serverSidePredicates = serverSidePredicates;
     }
 
     public RedisExpectationBuilder<T> key(String key) {
@@ -38,12 +58,84 @@ public class GenericRedisClient<T> {
                 beanName,
                 instanceName,
                 key,
-                redisTemplate,
+                templateFor(key),
                 typeReference,
                 objectMapper,
                 attachmentService,
+                awaitilityProperties,
+                keyspaceNotifier,
+                serverSidePredicates,
+                versionField,
+                coalescingPoller,
+                binaryTemplate,
+                clientSideCache
+        );
+    }
+
+    public RedisHashExpectationBuilder hash(String key) {
+        return new RedisHashExpectationBuilder(
+                beanName,
+                instanceName,
+                key,
+                templateFor(key),
+                objectMapper,
+                attachmentService,
                 awaitilityProperties
         );
     }
-}
 
+    public RedisListExpectationBuilder list(String key) {
+        return new RedisListExpectationBuilder(
+                beanName,
+                instanceName,
+                key,
+                templateFor(key),
+                objectMapper,
+                attachmentService,
+                awaitilityProperties
+        );
+    }
+
+    public RedisStreamExpectationBuilder stream(String key) {
+        return new RedisStreamExpectationBuilder(
+                beanName,
+                instanceName,
+                key,
+                templateFor(key),
+                attachmentService,
+                awaitilityProperties
+        );
+    }
+
+    public RedisSnapshotBuilder snapshot() {
+        return new RedisSnapshotBuilder(beanName, attachmentService, awaitilityProperties);
+    }
+
+    RedisTemplate<String, String> templateFor(String key) {
+        return connectionStripes != null && key != null ? connectionStripes.forKey(key) : redisTemplate;
+    }
+
+    String instanceName() {
+        return instanceName;
+    }
+
+    RedisTemplate<String, String> redisTemplate() {
+        return redisTemplate;
+    }
+
+    RedisTemplate<String, byte[]> binaryTemplate() {
+        return binaryTemplate;
+    }
+
+    RedisClientSideCache clientSideCache() {
+        return clientSideCache;
+    }
+
+    TypeReference<T> typeReference() {
+        return typeReference;
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,132 @@
+package com.testing.multisource.api.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+final class RedisChangeDetector {
+    private static final int VERSION_SLICE_BYTES = 32;
+
+    private final String versionToken;
+    private final byte[] versionTokenBytes;
+    private long byteLength = -1;
+    private int valueLength = -1;
+    private int hash;
+    private long versionOffset = -1;
+    private String versionSlice;
+    private String lastReason;
+
+    RedisChangeDetector(String versionField) {
+        this.versionToken = versionField != null ? '"' + versionField + '"' : null;
+        this.versionTokenBytes = versionToken != null ? versionToken.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    // STRLEN plus a short GETRANGE around the version field: two tiny replies instead of the whole value.
+    boolean unchangedOnServer(RedisTemplate<String, String> redisTemplate, String key) {
+        if (lastReason == null || versionOffset < 0) {
+            return false;
+        }
+        Long length = redisTemplate.opsForValue().size(key);
+        if (length == null || length != byteLength) {
+            return false;
+        }
+        String slice = redisTemplate.opsForValue().get(key, versionOffset, versionOffset + VERSION_SLICE_BYTES - 1);
+        return Objects.equals(slice, versionSlice);
+    }
+
+    boolean unchanged(String rawValue) {
+        return lastReason != null && rawValue.length() == valueLength && rawValue.hashCode() == hash;
+    }
+
+    void remember(String rawValue, String failureReason) {
+        valueLength = rawValue.length();
+        hash = rawValue.hashCode();
+        lastReason = failureReason;
+        if (versionToken == null) {
+            return;
+        }
+        byteLength = utf8Length(rawValue, rawValue.length());
+        int tokenIndex = rawValue.indexOf(versionToken);
+        if (tokenIndex < 0) {
+            versionOffset = -1;
+            versionSlice = null;
+            return;
+        }
+        int sliceStart = tokenIndex + versionToken.length();
+        versionOffset = utf8Length(rawValue, sliceStart);
+        versionSlice = sliceOf(rawValue, sliceStart);
+    }
+
+    boolean unchanged(byte[] rawValue) {
+        return lastReason != null && rawValue.length == valueLength && Arrays.hashCode(rawValue) == hash;
+    }
+
+    void remember(byte[] rawValue, String failureReason) {
+        valueLength = rawValue.length;
+        hash = Arrays.hashCode(rawValue);
+        lastReason = failureReason;
+        if (versionTokenBytes == null) {
+            return;
+        }
+        byteLength = rawValue.length;
+        int tokenIndex = indexOf(rawValue, versionTokenBytes);
+        if (tokenIndex < 0) {
+            versionOffset = -1;
+            versionSlice = null;
+            return;
+        }
+        int sliceStart = tokenIndex + versionTokenBytes.length;
+        versionOffset = sliceStart;
+        versionSlice = new String(rawValue, sliceStart,
+                Math.min(VERSION_SLICE_BYTES, rawValue.length - sliceStart), StandardCharsets.UTF_8);
+    }
+
+    void forget() {
+        lastReason = null;
+    }
+
+    String lastReason() {
+        return lastReason;
+    }
+
+    private static int indexOf(byte[] source, byte[] token) {
+        outer:
+        for (int i = 0; i <= source.length - token.length; i++) {
+            for (int j = 0; j < token.length; j++) {
+                if (source[i + j] != token[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String sliceOf(String rawValue, int start) {
+        int end = start;
+        while (end < rawValue.length() && utf8Length(rawValue.subSequence(start, end + 1), end + 1 - start) <= VERSION_SLICE_BYTES) {
+            end++;
+        }
+        return rawValue.substring(start, end);
+    }
+
+    private static long utf8Length(CharSequence value, int end) {
+        long bytes = 0;
+        for (int i = 0; i < end; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                bytes++;
+            } else if (ch < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(ch)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,117 @@
+package com.testing.multisource.api.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.support.caching.CacheAccessor;
+import io.lettuce.core.support.caching.CacheFrontend;
+import io.lettuce.core.support.caching.ClientSideCaching;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+public class RedisClientSideCache implements DisposableBean {
+    private final String instanceName;
+    private final RedisURI redisUri;
+    private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+    private volatile RedisClient client;
+    private volatile StatefulRedisConnection<String, byte[]> connection;
+    private volatile CacheFrontend<String, byte[]> frontend;
+
+    public RedisClientSideCache(String instanceName,
+                                String host,
+                                int port,
+                                int database,
+                                String password,
+                                Duration timeout) {
+        this.instanceName = Objects.requireNonNull(instanceName, "instanceName");
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(Objects.requireNonNull(host, "host"))
+                .withPort(port)
+                .withDatabase(database)
+                .withTimeout(timeout != null ? timeout : Duration.ofSeconds(60));
+        if (StringUtils.hasText(password)) {
+            builder.withPassword(password.toCharArray());
+        }
+        this.redisUri = builder.build();
+    }
+
+    // Served locally until the server pushes an invalidation for the key (CLIENT TRACKING over RESP3).
+    public byte[] get(String key) {
+        return frontend().get(key);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private CacheFrontend<String, byte[]> frontend() {
+        CacheFrontend<String, byte[]> current = frontend;
+        if (current == null) {
+            synchronized (this) {
+                current = frontend;
+                if (current == null) {
+                    RedisClient redisClient = RedisClient.create(redisUri);
+                    redisClient.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+                    StatefulRedisConnection<String, byte[]> tracked =
+                            redisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+                    current = ClientSideCaching.enable(new MapAccessor(values), tracked, TrackingArgs.Builder.enabled());
+                    client = redisClient;
+                    connection = tracked;
+                    frontend = current;
+                    log.info("[{}] Redis client-side cache enabled with CLIENT TRACKING", instanceName);
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void destroy() {
+        CacheFrontend<String, byte[]> currentFrontend = frontend;
+        if (currentFrontend != null) {
+            currentFrontend.close();
+        }
+        StatefulRedisConnection<String, byte[]> currentConnection = connection;
+        if (currentConnection != null) {
+            currentConnection.close();
+        }
+        RedisClient currentClient = client;
+        if (currentClient != null) {
+            currentClient.shutdown();
+        }
+        values.clear();
+    }
+
+    // Missing keys are not cached: the frontend would store null, which the map cannot hold.
+    private record MapAccessor(Map<String, byte[]> values) implements CacheAccessor<String, byte[]> {
+        @Override
+        public byte[] get(String key) {
+            return values.get(key);
+        }
+
+        @Override
+        public void put(String key, byte[] value) {
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+
+        @Override
+        public void evict(String key) {
+            values.remove(key);
+        }
+    }
+}
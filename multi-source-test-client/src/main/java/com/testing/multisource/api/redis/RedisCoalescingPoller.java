@@ -0,0 +1,115 @@
+package com.testing.multisource.api.redis;
+
+import com.testing.multisource.api.redis.config.RedisAwaitilityProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Slf4j
+public class RedisCoalescingPoller implements DisposableBean {
+    private final String instanceName;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration tickInterval;
+    private final Map<String, List<Consumer<byte[]>>> waiters = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService scheduler;
+
+    public RedisCoalescingPoller(String instanceName,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 RedisAwaitilityProperties awaitilityProperties) {
+        this.instanceName = Objects.requireNonNull(instanceName, "instanceName");
+        this.redisTemplate = Objects.requireNonNull(redisTemplate, "redisTemplate");
+        this.tickInterval = Objects.requireNonNull(awaitilityProperties, "awaitilityProperties").pollInterval();
+    }
+
+    public Duration tickInterval() {
+        return tickInterval;
+    }
+
+    public Registration register(String key, Consumer<byte[]> onValue) {
+        waiters.compute(key, (ignored, listeners) -> {
+            List<Consumer<byte[]>> target = listeners != null ? listeners : new CopyOnWriteArrayList<>();
+            target.add(onValue);
+            return target;
+        });
+        ensureStarted();
+        return () -> waiters.computeIfPresent(key, (ignored, listeners) -> {
+            listeners.remove(onValue);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    // One MGET per tick for every key somebody is waiting on, however many waiters there are.
+    private void tick() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(waiters.keySet());
+        byte[][] rawKeys = keys.stream().map(key -> key.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+        List<byte[]> values;
+        try {
+            // Raw bytes, so both the string and the binary value paths can consume the same MGET.
+            values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(rawKeys));
+        } catch (RuntimeException e) {
+            log.warn("[{}] Coalesced MGET of {} keys failed: {}", instanceName, keys.size(), e.getMessage());
+            return;
+        }
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            List<Consumer<byte[]>> listeners = waiters.get(keys.get(i));
+            if (listeners == null) {
+                continue;
+            }
+            byte[] value = values.get(i);
+            for (Consumer<byte[]> listener : listeners) {
+                listener.accept(value);
+            }
+        }
+    }
+
+    private void ensureStarted() {
+        if (scheduler != null) {
+            return;
+        }
+        synchronized (this) {
+            if (scheduler == null) {
+                ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "redis-poller-" + instanceName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                executor.scheduleWithFixedDelay(this::tick, 0, Math.max(tickInterval.toMillis(), 1), TimeUnit.MILLISECONDS);
+                scheduler = executor;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
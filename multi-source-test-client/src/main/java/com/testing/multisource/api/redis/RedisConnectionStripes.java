@@ -0,0 +1,26 @@
+package com.testing.multisource.api.redis;
+
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+public class RedisConnectionStripes {
+    private final List<RedisTemplate<String, String>> templates;
+
+    public RedisConnectionStripes(List<RedisTemplate<String, String>> templates) {
+        if (Objects.requireNonNull(templates, "templates").isEmpty()) {
+            throw new IllegalArgumentException("At least one Redis template stripe is required");
+        }
+        this.templates = List.copyOf(templates);
+    }
+
+    // A key always lands on the same native connection, so its commands keep their order.
+    public RedisTemplate<String, String> forKey(String key) {
+        return templates.get(Math.floorMod(key.hashCode(), templates.size()));
+    }
+
+    public int size() {
+        return templates.size();
+    }
+}
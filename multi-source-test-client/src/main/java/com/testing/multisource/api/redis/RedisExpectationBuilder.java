@@ -3,10 +3,14 @@ package com.testing.multisource.api.redis;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import com.testing.multisource.api.attachment.AllureAttachmentService;
 import com.testing.multisource.api.attachment.AttachmentType;
 import com.testing.multisource.api.redis.config.RedisAwaitilityProperties;
@@ -15,18 +19,28 @@ import org.awaitility.core.ConditionTimeoutException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static org.awaitility.Awaitility.await;
 
 public class RedisExpectationBuilder<T> {
+    // Large aggregates are attached as stored: re-indenting them costs more than it helps and the cap cuts them anyway.
+    private static final int PRETTY_PRINT_LIMIT = 64 * 1024;
+
     private final String beanName;
     private final String instanceName;
     private final String key;
@@ -35,8 +49,18 @@ public class RedisExpectationBuilder<T> {
     private final ObjectMapper objectMapper;
     private final AllureAttachmentService attachmentService;
     private final RedisAwaitilityProperties awaitilityProperties;
+    private final RedisKeyspaceNotifier keyspaceNotifier;
+    private final boolean serverSidePredicates;
+    private final String versionField;
+    private final RedisCoalescingPoller coalescingPoller;
+    private final RedisTemplate<String, byte[]> binaryTemplate;
+    private final RedisClientSideCache clientSideCache;
+    private final Configuration treeConfiguration;
     private final List<FieldExpectation> expectations = new ArrayList<>();
+    private final List<String> projections = new ArrayList<>();
     private Duration customTimeout;
+    private RedisChangeDetector changeDetector;
+    private AtomicReference<byte[]> polledValue;
 
     RedisExpectationBuilder(String beanName,
                             String instanceName,
@@ -45,7 +69,13 @@ public class RedisExpectationBuilder<T> {
                             TypeReference<T> typeReference,
                             ObjectMapper objectMapper,
                             AllureAttachmentService attachmentService,
-                            RedisAwaitilityProperties awaitilityProperties) {
+                            RedisAwaitilityProperties awaitilityProperties,
+                            RedisKeyspaceNotifier keyspaceNotifier,
+                            boolean serverSidePredicates,
+                            String versionField,
+                            RedisCoalescingPoller coalescingPoller,
+                            RedisTemplate<String, byte[]> binaryTemplate,
+                            RedisClientSideCache clientSideCache) {
         if (!StringUtils.hasText(key)) {
             throw new IllegalArgumentException("Redis key must not be null or blank");
         }
@@ -57,13 +87,26 @@ public class RedisExpectationBuilder<T> {
         this.objectMapper = objectMapper;
         this.attachmentService = attachmentService;
         this.awaitilityProperties = awaitilityProperties;
+        this.keyspaceNotifier = keyspaceNotifier;
+        this.serverSidePredicates = serverSidePredicates;
+        this.versionField = versionField;
+        this.coalescingPoller = coalescingPoller;
+        this.binaryTemplate = binaryTemplate;
+        this.clientSideCache = clientSideCache;
+        this.treeConfiguration = binaryTemplate != null
+                ? Configuration.builder()
+                .jsonProvider(new JacksonJsonNodeJsonProvider(objectMapper))
+                .mappingProvider(new JacksonMappingProvider(objectMapper))
+                .build()
+                : null;
     }
 
     public RedisExpectationBuilder<T> with(String jsonPath, Object expectedValue) {
         String normalizedPath = normalize(jsonPath);
         String description = "== " + formatValue(expectedValue);
         Predicate<Object> predicate = actual -> equalsConsideringNumbers(actual, expectedValue);
-        expectations.add(new FieldExpectation(normalizedPath, predicate, description));
+        expectations.add(new FieldExpectation(normalizedPath, predicate, description,
+                RedisLuaPredicates.equalTo(normalizedPath, expectedValue).orElse(null)));
         return this;
     }
 
@@ -72,12 +115,13 @@ public class RedisExpectationBuilder<T> {
     }
 
     public RedisExpectationBuilder<T> with(String jsonPath, Predicate<Object> predicate, String description) {
-        expectations.add(new FieldExpectation(normalize(jsonPath), predicate, description));
+        expectations.add(new FieldExpectation(normalize(jsonPath), predicate, description, null));
         return this;
     }
 
     public RedisExpectationBuilder<T> withAtLeast(String jsonPath, Number threshold) {
         Objects.requireNonNull(threshold, "threshold");
+        String normalizedPath = normalize(jsonPath);
         String description = ">= " + threshold;
         Predicate<Object> predicate = actual -> {
             if (!(actual instanceof Number actualNumber)) {
@@ -85,7 +129,15 @@ public class RedisExpectationBuilder<T> {
             }
             return toBigDecimal(actualNumber).compareTo(toBigDecimal(threshold)) >= 0;
         };
-        expectations.add(new FieldExpectation(normalize(jsonPath), predicate, description));
+        expectations.add(new FieldExpectation(normalizedPath, predicate, description,
+                RedisLuaPredicates.atLeast(normalizedPath, threshold).orElse(null)));
+        return this;
+    }
+
+    public RedisExpectationBuilder<T> project(String... jsonPaths) {
+        for (String jsonPath : jsonPaths) {
+            projections.add(normalize(jsonPath));
+        }
         return this;
     }
 
@@ -95,33 +147,53 @@ public class RedisExpectationBuilder<T> {
     }
 
     public T fetch() {
+        AttemptResult<T> result = awaitResult(this::attemptFetch);
+        attachSuccess(result.rawJson(), result.value());
+        return result.value();
+    }
+
+    public Map<String, Object> fetchProjection() {
+        if (projections.isEmpty()) {
+            throw new IllegalStateException("No projection paths requested for key '" + key + "'; call project(...) first");
+        }
+        AttemptResult<Map<String, Object>> result = awaitResult(this::attemptProjection);
+        attachmentService.attachText(AttachmentType.REDIS, "Found Projection",
+                "Key: " + key + "\nStatus: Найдено\n\n" + result.rawJson());
+        return result.value();
+    }
+
+    private <R> AttemptResult<R> awaitResult(Supplier<AttemptResult<R>> attemptSupplier) {
         Duration timeout = Optional.ofNullable(customTimeout).orElse(awaitilityProperties.defaultTimeout());
         Duration pollInterval = awaitilityProperties.pollInterval();
 
         attachSearchInfo(timeout);
+        changeDetector = new RedisChangeDetector(versionField);
+        polledValue = null;
 
-        AtomicReference<AttemptResult<T>> lastAttempt = new AtomicReference<>();
+        AtomicReference<AttemptResult<R>> lastAttempt = new AtomicReference<>();
         Instant start = Instant.now();
         try {
-            AttemptResult<T> result = await()
+            if (coalesced()) {
+                return awaitPolled(timeout, attemptSupplier, lastAttempt);
+            }
+            return keyspaceNotifier != null
+                    ? awaitNotified(timeout, attemptSupplier, lastAttempt)
+                    : await()
                     .alias("Redis fetch: " + key)
                     .pollDelay(Duration.ZERO)
                     .pollInterval(pollInterval)
                     .atMost(timeout)
                     .ignoreExceptionsMatching(ex -> !(ex instanceof RedisDeserializationRuntimeException))
                     .until(() -> {
-                        AttemptResult<T> attempt = attemptFetch();
+                        AttemptResult<R> attempt = attemptSupplier.get();
                         lastAttempt.set(attempt);
                         return attempt;
                     }, AttemptResult::found);
-
-            attachSuccess(result.rawJson(), result.value());
-            return result.value();
         } catch (RedisDeserializationRuntimeException ex) {
             attachDeserializationError(ex.rawJson(), ex.getCause());
             throw new RedisRetryExhaustedException(ex.getMessage(), ex.getCause());
         } catch (ConditionTimeoutException ex) {
-            AttemptResult<T> attempt = lastAttempt.get();
+            AttemptResult<R> attempt = lastAttempt.get();
             String reason = attempt != null ? attempt.failureMessage() : "value not found";
             Duration elapsed = Duration.between(start, Instant.now());
             attachNotFound(reason, elapsed);
@@ -135,41 +207,293 @@ public class RedisExpectationBuilder<T> {
         }
     }
 
+    // The value is re-read only when a set/del notification arrives; the safety poll covers lost events
+    // and servers running without notify-keyspace-events.
+    private <R> AttemptResult<R> awaitNotified(Duration timeout,
+                                               Supplier<AttemptResult<R>> attemptSupplier,
+                                               AtomicReference<AttemptResult<R>> lastAttempt) {
+        Semaphore changed = new Semaphore(0);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long safetyPollNanos = keyspaceNotifier.safetyPollInterval().toNanos();
+        try (RedisKeyspaceNotifier.Subscription ignored = keyspaceNotifier.subscribe(key, changed::release)) {
+            while (true) {
+                AttemptResult<R> attempt = tryAttempt(attemptSupplier);
+                lastAttempt.set(attempt);
+                if (attempt.found()) {
+                    return attempt;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new ConditionTimeoutException("Redis fetch: " + key + " timed out after " + timeout);
+                }
+                changed.tryAcquire(Math.min(remaining, safetyPollNanos), TimeUnit.NANOSECONDS);
+                changed.drainPermits();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisRetryExhaustedException(String.format(
+                    "[%s] Interrupted while waiting for key '%s'", instanceName, key), e);
+        }
+    }
+
+    // The first read is the waiter's own, like pollDelay(ZERO) on the Awaitility path; after that the shared
+    // poller reads the key together with every other pending key of the instance and this waiter only
+    // evaluates what each tick delivers.
+    private <R> AttemptResult<R> awaitPolled(Duration timeout,
+                                             Supplier<AttemptResult<R>> attemptSupplier,
+                                             AtomicReference<AttemptResult<R>> lastAttempt) {
+        AttemptResult<R> first = tryAttempt(attemptSupplier);
+        lastAttempt.set(first);
+        if (first.found()) {
+            return first;
+        }
+
+        AtomicReference<byte[]> latest = new AtomicReference<>();
+        Semaphore delivered = new Semaphore(0);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try (RedisCoalescingPoller.Registration ignored = coalescingPoller.register(key, value -> {
+            latest.set(value);
+            delivered.release();
+        })) {
+            while (true) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !delivered.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                    throw new ConditionTimeoutException("Redis fetch: " + key + " timed out after " + timeout);
+                }
+                delivered.drainPermits();
+
+                polledValue = latest;
+                AttemptResult<R> attempt = tryAttempt(attemptSupplier);
+                lastAttempt.set(attempt);
+                if (attempt.found()) {
+                    return attempt;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisRetryExhaustedException(String.format(
+                    "[%s] Interrupted while waiting for key '%s'", instanceName, key), e);
+        } finally {
+            polledValue = null;
+        }
+    }
+
+    // Read errors are retried like on the Awaitility path; only a deserialization failure ends the wait.
+    private static <R> AttemptResult<R> tryAttempt(Supplier<AttemptResult<R>> attemptSupplier) {
+        try {
+            return attemptSupplier.get();
+        } catch (RedisDeserializationRuntimeException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            return AttemptResult.notFound("read failed: " + ex.getMessage());
+        }
+    }
+
+    // The Lua prefilter only saves transferring the blob while the predicates fail;
+    // the value it lets through is read once and verified again locally.
     private AttemptResult<T> attemptFetch() {
-        String rawValue = redisTemplate.opsForValue().get(key);
+        List<RedisLuaPredicates.Check> checks = serverSideChecks();
+        if (checks != null && !checks.isEmpty()) {
+            RedisLuaPredicates.Outcome outcome = RedisLuaPredicates.evaluate(redisTemplate, objectMapper, key, checks, List.of());
+            if (!outcome.matched()) {
+                return AttemptResult.notFound(outcome.reason());
+            }
+        }
+
+        LocalRead read = readAndCheck();
+        if (read.failure() != null) {
+            return AttemptResult.notFound(read.failure());
+        }
+        JavaType javaType = objectMapper.constructType(typeReference.getType());
+
+        if (read.tree() != null) {
+            try {
+                return AttemptResult.found(objectMapper.treeToValue(read.tree(), javaType), null);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                throw new RedisDeserializationRuntimeException(key, read.tree().toString(), e);
+            }
+        }
+
+        String rawValue = read.rawValue();
+        try {
+            T value = objectMapper.readValue(rawValue, javaType);
+            return AttemptResult.found(value, rawValue);
+        } catch (JsonProcessingException e) {
+            throw new RedisDeserializationRuntimeException(key, rawValue, e);
+        }
+    }
+
+    private AttemptResult<Map<String, Object>> attemptProjection() {
+        List<RedisLuaPredicates.Check> checks = serverSideChecks();
+        List<List<Object>> compiledPaths = checks != null ? compiledProjections() : null;
+        Map<String, Object> projection = new LinkedHashMap<>();
+        RedisLuaPredicates.Outcome outcome = compiledPaths != null
+                ? RedisLuaPredicates.evaluate(redisTemplate, objectMapper, key, checks, compiledPaths)
+                : null;
+
+        if (outcome != null && !outcome.clientSide()) {
+            if (!outcome.matched()) {
+                return AttemptResult.notFound(outcome.reason());
+            }
+            for (int i = 0; i < projections.size(); i++) {
+                projection.put(projections.get(i), i < outcome.projection().size() ? outcome.projection().get(i) : null);
+            }
+        } else {
+            LocalRead read = readAndCheck();
+            if (read.failure() != null) {
+                return AttemptResult.notFound(read.failure());
+            }
+            for (String path : projections) {
+                Object value;
+                try {
+                    value = readPath(read.document(), path);
+                } catch (PathNotFoundException ex) {
+                    value = null;
+                }
+                projection.put(path, value);
+            }
+        }
+
+        return AttemptResult.found(projection, prettyJson(projection));
+    }
+
+    // An unchanged value cannot start matching, so it is neither parsed nor evaluated again.
+    private LocalRead readAndCheck() {
+        if (polledValue == null && clientSideCache == null && changeDetector.unchangedOnServer(redisTemplate, key)) {
+            return LocalRead.failed(changeDetector.lastReason());
+        }
+
+        if (binaryTemplate != null) {
+            return readTreeAndCheck();
+        }
+
+        String rawValue;
+        if (polledValue != null) {
+            byte[] polled = polledValue.get();
+            rawValue = polled != null ? new String(polled, StandardCharsets.UTF_8) : null;
+        } else if (clientSideCache != null) {
+            byte[] cached = clientSideCache.get(key);
+            rawValue = cached != null ? new String(cached, StandardCharsets.UTF_8) : null;
+        } else {
+            rawValue = redisTemplate.opsForValue().get(key);
+        }
         if (!StringUtils.hasText(rawValue)) {
-            return AttemptResult.notFound("value is null or empty");
+            changeDetector.forget();
+            return LocalRead.failed("value is null or empty");
+        }
+        if (changeDetector.unchanged(rawValue)) {
+            return LocalRead.failed(changeDetector.lastReason());
         }
 
         DocumentContext documentContext;
         try {
             documentContext = JsonPath.parse(rawValue);
         } catch (Exception e) {
-            return AttemptResult.notFound("failed to parse JSON: " + e.getMessage());
+            String reason = "failed to parse JSON: " + e.getMessage();
+            changeDetector.remember(rawValue, reason);
+            return LocalRead.failed(reason);
+        }
+
+        String mismatch = firstMismatch(documentContext);
+        if (mismatch != null) {
+            changeDetector.remember(rawValue, mismatch);
+            return LocalRead.failed(mismatch);
+        }
+        changeDetector.forget();
+        return new LocalRead(rawValue, null, documentContext, null);
+    }
+
+    // One Jackson parse straight from the bytes; the same tree serves JSONPath and the typed conversion.
+    private LocalRead readTreeAndCheck() {
+        byte[] rawValue = polledValue != null
+                ? polledValue.get()
+                : clientSideCache != null ? clientSideCache.get(key) : binaryTemplate.opsForValue().get(key);
+        if (rawValue == null || rawValue.length == 0) {
+            changeDetector.forget();
+            return LocalRead.failed("value is null or empty");
+        }
+        if (changeDetector.unchanged(rawValue)) {
+            return LocalRead.failed(changeDetector.lastReason());
+        }
+
+        JsonNode tree;
+        try {
+            tree = objectMapper.readTree(rawValue);
+        } catch (IOException e) {
+            String reason = "failed to parse JSON: " + e.getMessage();
+            changeDetector.remember(rawValue, reason);
+            return LocalRead.failed(reason);
+        }
+        if (tree == null || tree.isMissingNode() || tree.isNull()) {
+            changeDetector.forget();
+            return LocalRead.failed("value is null or empty");
+        }
+
+        DocumentContext documentContext = JsonPath.using(treeConfiguration).parse(tree);
+        String mismatch = firstMismatch(documentContext);
+        if (mismatch != null) {
+            changeDetector.remember(rawValue, mismatch);
+            return LocalRead.failed(mismatch);
         }
+        changeDetector.forget();
+        return new LocalRead(null, tree, documentContext, null);
+    }
+
+    // Tree documents hold JsonNode values; the mapping provider turns them into plain Java values for predicates.
+    private Object readPath(DocumentContext documentContext, String path) {
+        return treeConfiguration != null ? documentContext.read(path, Object.class) : documentContext.read(path);
+    }
 
+    private String firstMismatch(DocumentContext documentContext) {
         for (FieldExpectation expectation : expectations) {
             Object actual;
             try {
-                actual = documentContext.read(expectation.jsonPath());
+                actual = readPath(documentContext, expectation.jsonPath());
             } catch (PathNotFoundException ex) {
-                return AttemptResult.notFound("json path '" + expectation.jsonPath() + "' not found");
+                return "json path '" + expectation.jsonPath() + "' not found";
             } catch (Exception ex) {
-                return AttemptResult.notFound("failed to evaluate json path '" + expectation.jsonPath() + "': " + ex.getMessage());
+                return "failed to evaluate json path '" + expectation.jsonPath() + "': " + ex.getMessage();
             }
             if (!expectation.predicate().test(actual)) {
-                return AttemptResult.notFound("json path '" + expectation.jsonPath() + "' " + expectation.description()
-                        + " but was " + formatValue(actual));
+                return "json path '" + expectation.jsonPath() + "' " + expectation.description()
+                        + " but was " + formatValue(actual);
             }
         }
+        return null;
+    }
 
-        try {
-            JavaType javaType = objectMapper.constructType(typeReference.getType());
-            T value = objectMapper.readValue(rawValue, javaType);
-            return AttemptResult.found(value, rawValue);
-        } catch (JsonProcessingException e) {
-            throw new RedisDeserializationRuntimeException(key, rawValue, e);
+    // Null means the client-side path: the option is off, or some predicate cannot be expressed in Lua.
+    private List<RedisLuaPredicates.Check> serverSideChecks() {
+        if (!serverSidePredicates || (expectations.isEmpty() && projections.isEmpty())) {
+            return null;
+        }
+        List<RedisLuaPredicates.Check> checks = new ArrayList<>(expectations.size());
+        for (FieldExpectation expectation : expectations) {
+            if (expectation.serverCheck() == null) {
+                return null;
+            }
+            checks.add(expectation.serverCheck());
+        }
+        return checks;
+    }
+
+    // Notifications, the Lua prefilter and the client-side cache already avoid redundant transfers,
+    // so they take precedence.
+    private boolean coalesced() {
+        return coalescingPoller != null && keyspaceNotifier == null && !serverSidePredicates && clientSideCache == null;
+    }
+
+    private List<List<Object>> compiledProjections() {
+        List<List<Object>> compiled = new ArrayList<>(projections.size());
+        for (String path : projections) {
+            Optional<List<Object>> segments = RedisLuaPredicates.compilePath(path);
+            if (segments.isEmpty()) {
+                return null;
+            }
+            compiled.add(segments.get());
         }
+        return compiled;
     }
 
     private void attachSearchInfo(Duration timeout) {
@@ -178,6 +502,22 @@ public class RedisExpectationBuilder<T> {
         builder.append("Redis Instance: ").append(instanceName).append('\n');
         builder.append("Key: ").append(key).append('\n');
         builder.append("Timeout: ").append(timeout.toSeconds()).append("s\n");
+        builder.append("Mode: ").append(coalesced()
+                ? "coalesced polling (MGET every " + coalescingPoller.tickInterval().toMillis() + " ms)"
+                : keyspaceNotifier != null
+                ? "keyspace notifications (safety poll " + keyspaceNotifier.safetyPollInterval().toMillis() + " ms)"
+                : "polling (" + awaitilityProperties.pollInterval().toMillis() + " ms)").append('\n');
+        builder.append("Value path: ").append(binaryTemplate != null ? "byte[] -> Jackson tree" : "String").append('\n');
+        if (clientSideCache != null) {
+            builder.append("Client-side cache: CLIENT TRACKING (").append(clientSideCache.size()).append(" keys cached)\n");
+        }
+        builder.append("Change detection: ").append(versionField != null && !coalesced() && clientSideCache == null
+                ? "version field '" + versionField + "' (STRLEN + GETRANGE)"
+                : "length + hash").append('\n');
+        builder.append("Predicates: ").append(serverSideChecks() != null ? "server-side (Lua)" : "client-side").append('\n');
+        if (!projections.isEmpty()) {
+            builder.append("Projection: ").append(projections).append('\n');
+        }
         if (expectations.isEmpty()) {
             builder.append("Filters: [none]");
         } else {
@@ -190,7 +530,7 @@ public class RedisExpectationBuilder<T> {
                         .append(expectation.description());
             }
         }
-        attachmentService.attachText(AttachmentType.REDIS, "Search Info", builder.toString());
+        attachmentService.attachTextOnFailure(AttachmentType.REDIS, "Search Info", builder.toString());
     }
 
     private void attachSuccess(String rawJson, T value) {
@@ -219,6 +559,9 @@ public class RedisExpectationBuilder<T> {
     }
 
     private String prettyJson(String rawJson, T deserialized) {
+        if (rawJson != null && rawJson.length() > PRETTY_PRINT_LIMIT) {
+            return rawJson;
+        }
         try {
             if (deserialized != null) {
                 return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(deserialized);
@@ -229,7 +572,15 @@ public class RedisExpectationBuilder<T> {
         }
     }
 
-    private String normalize(String jsonPath) {
+    private String prettyJson(Map<String, Object> projection) {
+        try {
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(projection);
+        } catch (JsonProcessingException e) {
+            return String.valueOf(projection);
+        }
+    }
+
+    static String normalize(String jsonPath) {
         if (!StringUtils.hasText(jsonPath)) {
             throw new IllegalArgumentException("jsonPath must not be blank");
         }
@@ -243,7 +594,7 @@ public class RedisExpectationBuilder<T> {
         return "$." + trimmed;
     }
 
-    private boolean equalsConsideringNumbers(Object actual, Object expected) {
+    static boolean equalsConsideringNumbers(Object actual, Object expected) {
         if (actual == null || expected == null) {
             return Objects.equals(actual, expected);
         }
@@ -253,14 +604,29 @@ public class RedisExpectationBuilder<T> {
         return Objects.equals(actual, expected);
     }
 
-    private java.math.BigDecimal toBigDecimal(Number number) {
+    // Hash and stream fields are plain strings; numbers are compared by value, everything else by text.
+    static boolean matchesFieldValue(String actual, Object expected) {
+        if (actual == null || expected == null) {
+            return actual == null && expected == null;
+        }
+        if (expected instanceof Number expectedNumber) {
+            try {
+                return new java.math.BigDecimal(actual.trim()).compareTo(toBigDecimal(expectedNumber)) == 0;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return actual.equals(expected.toString());
+    }
+
+    private static java.math.BigDecimal toBigDecimal(Number number) {
         if (number instanceof java.math.BigDecimal bd) {
             return bd;
         }
         return new java.math.BigDecimal(number.toString());
     }
 
-    private String formatValue(Object value) {
+    static String formatValue(Object value) {
         if (value == null) {
             return "null";
         }
@@ -270,7 +636,16 @@ public class RedisExpectationBuilder<T> {
         return value.toString();
     }
 
-    private record FieldExpectation(String jsonPath, Predicate<Object> predicate, String description) {
+    private record FieldExpectation(String jsonPath,
+                                    Predicate<Object> predicate,
+                                    String description,
+                                    RedisLuaPredicates.Check serverCheck) {
+    }
+
+    private record LocalRead(String rawValue, JsonNode tree, DocumentContext document, String failure) {
+        static LocalRead failed(String failure) {
+            return new LocalRead(null, null, null, failure);
+        }
     }
 
     private record AttemptResult<T>(T value, String rawJson, String failureMessage) {
@@ -0,0 +1,177 @@
+package com.testing.multisource.api.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing.multisource.api.attachment.AllureAttachmentService;
+import com.testing.multisource.api.attachment.AttachmentType;
+import com.testing.multisource.api.redis.config.RedisAwaitilityProperties;
+import com.testing.multisource.api.redis.exceptions.RedisRetryExhaustedException;
+import org.awaitility.core.ConditionTimeoutException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.awaitility.Awaitility.await;
+
+public class RedisHashExpectationBuilder {
+    private final String beanName;
+    private final String instanceName;
+    private final String key;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AllureAttachmentService attachmentService;
+    private final RedisAwaitilityProperties awaitilityProperties;
+    private final Set<String> fields = new LinkedHashSet<>();
+    private final Map<String, Object> expectedFields = new LinkedHashMap<>();
+    private Duration customTimeout;
+
+    RedisHashExpectationBuilder(String beanName,
+                                String instanceName,
+                                String key,
+                                RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper,
+                                AllureAttachmentService attachmentService,
+                                RedisAwaitilityProperties awaitilityProperties) {
+        if (!StringUtils.hasText(key)) {
+            throw new IllegalArgumentException("Redis key must not be null or blank");
+        }
+        this.beanName = beanName;
+        this.instanceName = instanceName;
+        this.key = key;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.attachmentService = attachmentService;
+        this.awaitilityProperties = awaitilityProperties;
+    }
+
+    public RedisHashExpectationBuilder fields(String... names) {
+        for (String name : names) {
+            fields.add(name);
+        }
+        return this;
+    }
+
+    public RedisHashExpectationBuilder with(String field, Object expectedValue) {
+        fields.add(field);
+        expectedFields.put(field, expectedValue);
+        return this;
+    }
+
+    public RedisHashExpectationBuilder within(Duration timeout) {
+        this.customTimeout = timeout;
+        return this;
+    }
+
+    public Map<String, String> fetch() {
+        Duration timeout = Optional.ofNullable(customTimeout).orElse(awaitilityProperties.defaultTimeout());
+        attachSearchInfo(timeout);
+
+        AtomicReference<String> lastReason = new AtomicReference<>("hash not read");
+        try {
+            Map<String, String> result = await()
+                    .alias("Redis hash fetch: " + key)
+                    .pollDelay(Duration.ZERO)
+                    .pollInterval(awaitilityProperties.pollInterval())
+                    .atMost(timeout)
+                    .ignoreExceptions()
+                    .until(() -> attempt(lastReason), value -> value != null);
+
+            attachmentService.attachText(AttachmentType.REDIS, "Found Hash Fields",
+                    "Key: " + key + "\nStatus: Найдено\n\n" + format(result));
+            return result;
+        } catch (ConditionTimeoutException ex) {
+            attachmentService.attachText(AttachmentType.REDIS, "Hash Fields Not Found",
+                    "Key: " + key + "\nПоследняя причина: " + lastReason.get());
+            throw new RedisRetryExhaustedException(String.format(
+                    "[%s] Hash fields of key '%s' did not match within %d seconds: %s",
+                    instanceName, key, timeout.toSeconds(), lastReason.get()));
+        }
+    }
+
+    public <V> V fetchField(String field, Class<V> type) {
+        fields.add(field);
+        String rawValue = fetch().get(field);
+        if (rawValue == null) {
+            return null;
+        }
+        // Hash fields are often plain strings rather than JSON, so strings are returned as stored.
+        if (type == String.class) {
+            return type.cast(rawValue);
+        }
+        try {
+            return objectMapper.readValue(rawValue, type);
+        } catch (JsonProcessingException e) {
+            throw new RedisRetryExhaustedException(String.format(
+                    "[%s] Failed to deserialize field '%s' of hash '%s': %s", instanceName, field, key, e.getMessage()), e);
+        }
+    }
+
+    // HMGET of the requested fields only; HGETALL is used when no field was named.
+    private Map<String, String> attempt(AtomicReference<String> lastReason) {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, String> values = new LinkedHashMap<>();
+        if (fields.isEmpty()) {
+            values.putAll(hash.entries(key));
+            if (values.isEmpty()) {
+                lastReason.set("hash is empty or missing");
+                return null;
+            }
+        } else {
+            List<String> names = new ArrayList<>(fields);
+            List<String> read = hash.multiGet(key, names);
+            for (int i = 0; i < names.size(); i++) {
+                values.put(names.get(i), read != null ? read.get(i) : null);
+            }
+            // HMGET on a missing key answers with nulls only: wait for it like for an empty HGETALL.
+            if (values.values().stream().allMatch(Objects::isNull)) {
+                lastReason.set("hash is missing or has none of the requested fields");
+                return null;
+            }
+        }
+
+        for (Map.Entry<String, Object> expected : expectedFields.entrySet()) {
+            String actual = values.get(expected.getKey());
+            if (!RedisExpectationBuilder.matchesFieldValue(actual, expected.getValue())) {
+                lastReason.set("field '" + expected.getKey() + "' == "
+                        + RedisExpectationBuilder.formatValue(expected.getValue())
+                        + " but was " + RedisExpectationBuilder.formatValue(actual));
+                return null;
+            }
+        }
+        return values;
+    }
+
+    private void attachSearchInfo(Duration timeout) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Client Bean: ").append(beanName).append('\n');
+        builder.append("Redis Instance: ").append(instanceName).append('\n');
+        builder.append("Key: ").append(key).append(" (hash)\n");
+        builder.append("Timeout: ").append(timeout.toSeconds()).append("s\n");
+        builder.append("Fields: ").append(fields.isEmpty() ? "[all]" : fields).append('\n');
+        if (expectedFields.isEmpty()) {
+            builder.append("Filters: [none]");
+        } else {
+            builder.append("Filters:");
+            expectedFields.forEach((field, value) -> builder.append("\n - ").append(field)
+                    .append(" == ").append(RedisExpectationBuilder.formatValue(value)));
+        }
+        attachmentService.attachTextOnFailure(AttachmentType.REDIS, "Search Info", builder.toString());
+    }
+
+    private String format(Map<String, String> values) {
+        StringBuilder builder = new StringBuilder();
+        values.forEach((field, value) -> builder.append(field).append(": ").append(value).append('\n'));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package com.testing.multisource.api.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+@Slf4j
+public class RedisKeyspaceNotifier implements DisposableBean {
+    private static final Set<String> VALUE_EVENTS = Set.of("set", "del", "expired");
+
+    private final String instanceName;
+    private final RedisConnectionFactory connectionFactory;
+    private final int database;
+    private final Duration safetyPollInterval;
+    private volatile RedisMessageListenerContainer container;
+
+    public RedisKeyspaceNotifier(String instanceName,
+                                 RedisConnectionFactory connectionFactory,
+                                 int database,
+                                 Duration safetyPollInterval) {
+        this.instanceName = Objects.requireNonNull(instanceName, "instanceName");
+        this.connectionFactory = Objects.requireNonNull(connectionFactory, "connectionFactory");
+        this.database = database;
+        this.safetyPollInterval = Objects.requireNonNull(safetyPollInterval, "safetyPollInterval");
+    }
+
+    public Duration safetyPollInterval() {
+        return safetyPollInterval;
+    }
+
+    public Subscription subscribe(String key, Runnable onValueChanged) {
+        ChannelTopic topic = new ChannelTopic("__keyspace@" + database + "__:" + key);
+        MessageListener listener = (message, pattern) -> {
+            String event = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (VALUE_EVENTS.contains(event)) {
+                onValueChanged.run();
+            }
+        };
+        RedisMessageListenerContainer listenerContainer = container();
+        listenerContainer.addMessageListener(listener, topic);
+        return () -> listenerContainer.removeMessageListener(listener, topic);
+    }
+
+    private RedisMessageListenerContainer container() {
+        RedisMessageListenerContainer current = container;
+        if (current == null) {
+            synchronized (this) {
+                current = container;
+                if (current == null) {
+                    warnIfNotificationsDisabled();
+                    current = new RedisMessageListenerContainer();
+                    current.setConnectionFactory(connectionFactory);
+                    current.afterPropertiesSet();
+                    current.start();
+                    container = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // Only a hint: managed Redis often forbids CONFIG, and the safety poll covers a disabled server anyway.
+    private void warnIfNotificationsDisabled() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Properties config = connection.serverCommands().getConfig("notify-keyspace-events");
+            String flags = config != null ? config.getProperty("notify-keyspace-events", "") : "";
+            boolean keyspace = flags.contains("K");
+            boolean valueEvents = flags.contains("A") || (flags.contains("$") && flags.contains("g"));
+            if (!keyspace || !valueEvents) {
+                log.warn("[{}] Redis keyspace notifications look disabled (notify-keyspace-events='{}'); "
+                        + "waits will rely on the safety poll", instanceName, flags);
+            }
+        } catch (Exception e) {
+            log.debug("[{}] Could not read notify-keyspace-events: {}", instanceName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        RedisMessageListenerContainer current = container;
+        if (current != null) {
+            current.destroy();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Subscription extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
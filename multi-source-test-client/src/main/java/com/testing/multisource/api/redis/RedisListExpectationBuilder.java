@@ -0,0 +1,147 @@
+package com.testing.multisource.api.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing.multisource.api.attachment.AllureAttachmentService;
+import com.testing.multisource.api.attachment.AttachmentType;
+import com.testing.multisource.api.redis.config.RedisAwaitilityProperties;
+import com.testing.multisource.api.redis.exceptions.RedisRetryExhaustedException;
+import org.awaitility.core.ConditionTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static org.awaitility.Awaitility.await;
+
+public class RedisListExpectationBuilder {
+    private static final long DEFAULT_WINDOW = 100;
+
+    private final String beanName;
+    private final String instanceName;
+    private final String key;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AllureAttachmentService attachmentService;
+    private final RedisAwaitilityProperties awaitilityProperties;
+    private long start = 0;
+    private long end = DEFAULT_WINDOW - 1;
+    private int minSize = 1;
+    private Predicate<String> elementPredicate;
+    private String elementDescription;
+    private Duration customTimeout;
+
+    RedisListExpectationBuilder(String beanName,
+                                String instanceName,
+                                String key,
+                                RedisTemplate<String, String> redisTemplate,
+                                ObjectMapper objectMapper,
+                                AllureAttachmentService attachmentService,
+                                RedisAwaitilityProperties awaitilityProperties) {
+        if (!StringUtils.hasText(key)) {
+            throw new IllegalArgumentException("Redis key must not be null or blank");
+        }
+        this.beanName = beanName;
+        this.instanceName = instanceName;
+        this.key = key;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.attachmentService = attachmentService;
+        this.awaitilityProperties = awaitilityProperties;
+    }
+
+    // Inclusive LRANGE bounds; negative indexes count from the tail as in Redis.
+    public RedisListExpectationBuilder range(long start, long end) {
+        this.start = start;
+        this.end = end;
+        return this;
+    }
+
+    public RedisListExpectationBuilder withSizeAtLeast(int minSize) {
+        this.minSize = minSize;
+        return this;
+    }
+
+    public RedisListExpectationBuilder containing(Predicate<String> predicate, String description) {
+        this.elementPredicate = predicate;
+        this.elementDescription = description;
+        return this;
+    }
+
+    public RedisListExpectationBuilder within(Duration timeout) {
+        this.customTimeout = timeout;
+        return this;
+    }
+
+    public List<String> fetch() {
+        Duration timeout = Optional.ofNullable(customTimeout).orElse(awaitilityProperties.defaultTimeout());
+        attachSearchInfo(timeout);
+
+        AtomicReference<String> lastReason = new AtomicReference<>("list not read");
+        try {
+            List<String> result = await()
+                    .alias("Redis list fetch: " + key)
+                    .pollDelay(Duration.ZERO)
+                    .pollInterval(awaitilityProperties.pollInterval())
+                    .atMost(timeout)
+                    .ignoreExceptions()
+                    .until(() -> attempt(lastReason), value -> value != null);
+
+            attachmentService.attachText(AttachmentType.REDIS, "Found List Window",
+                    "Key: " + key + "\nStatus: Найдено (" + result.size() + " элементов)\n\n" + String.join("\n", result));
+            return result;
+        } catch (ConditionTimeoutException ex) {
+            attachmentService.attachText(AttachmentType.REDIS, "List Window Not Found",
+                    "Key: " + key + "\nПоследняя причина: " + lastReason.get());
+            throw new RedisRetryExhaustedException(String.format(
+                    "[%s] List window [%d..%d] of key '%s' did not match within %d seconds: %s",
+                    instanceName, start, end, key, timeout.toSeconds(), lastReason.get()));
+        }
+    }
+
+    public <V> List<V> fetchAs(Class<V> type) {
+        List<String> rawValues = fetch();
+        List<V> values = new ArrayList<>(rawValues.size());
+        for (String rawValue : rawValues) {
+            try {
+                values.add(objectMapper.readValue(rawValue, type));
+            } catch (JsonProcessingException e) {
+                throw new RedisRetryExhaustedException(String.format(
+                        "[%s] Failed to deserialize element of list '%s': %s", instanceName, key, e.getMessage()), e);
+            }
+        }
+        return values;
+    }
+
+    private List<String> attempt(AtomicReference<String> lastReason) {
+        List<String> window = redisTemplate.opsForList().range(key, start, end);
+        if (window == null || window.size() < minSize) {
+            lastReason.set("window holds " + (window == null ? 0 : window.size()) + " elements, expected at least " + minSize);
+            return null;
+        }
+        if (elementPredicate != null && window.stream().noneMatch(elementPredicate)) {
+            lastReason.set("no element " + elementDescription);
+            return null;
+        }
+        return window;
+    }
+
+    private void attachSearchInfo(Duration timeout) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Client Bean: ").append(beanName).append('\n');
+        builder.append("Redis Instance: ").append(instanceName).append('\n');
+        builder.append("Key: ").append(key).append(" (list)\n");
+        builder.append("Timeout: ").append(timeout.toSeconds()).append("s\n");
+        builder.append("Window: LRANGE ").append(start).append(' ').append(end).append('\n');
+        builder.append("Min size: ").append(minSize);
+        if (elementPredicate != null) {
+            builder.append("\nElement: ").append(elementDescription);
+        }
+        attachmentService.attachTextOnFailure(AttachmentType.REDIS, "Search Info", builder.toString());
+    }
+}
@@ -0,0 +1,103 @@
+package com.testing.multisource.api.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class RedisLuaPredicates {
+    private static final RedisScript<List> SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/json-predicates.lua"), List.class);
+    private static final Pattern SEGMENT = Pattern.compile("\\.([A-Za-z_][A-Za-z0-9_]*)|\\[(\\d+)]|\\['([^']+)']");
+
+    private RedisLuaPredicates() {
+    }
+
+    record Check(String label, List<Object> path, String op, Object value) {
+    }
+
+    // clientSide: the checks passed, but the projection has to be read on the client to keep numbers exact.
+    record Outcome(boolean matched, boolean clientSide, String reason, List<Object> projection) {
+    }
+
+    static Optional<Check> equalTo(String jsonPath, Object expected) {
+        if (expected != null && !(expected instanceof String || expected instanceof Number || expected instanceof Boolean)) {
+            return Optional.empty();
+        }
+        return compilePath(jsonPath).map(path -> new Check(jsonPath, path, "eq", expected));
+    }
+
+    static Optional<Check> atLeast(String jsonPath, Number threshold) {
+        return compilePath(jsonPath).map(path -> new Check(jsonPath, path, "gte", threshold));
+    }
+
+    // Only plain member/index paths are compiled; filters, wildcards and deep scans stay client-side.
+    static Optional<List<Object>> compilePath(String jsonPath) {
+        if (jsonPath == null || !jsonPath.startsWith("$")) {
+            return Optional.empty();
+        }
+        List<Object> path = new ArrayList<>();
+        Matcher matcher = SEGMENT.matcher(jsonPath);
+        int position = 1;
+        while (position < jsonPath.length()) {
+            if (!matcher.find(position) || matcher.start() != position) {
+                return Optional.empty();
+            }
+            if (matcher.group(1) != null) {
+                path.add(matcher.group(1));
+            } else if (matcher.group(2) != null) {
+                path.add(Integer.parseInt(matcher.group(2)));
+            } else {
+                path.add(matcher.group(3));
+            }
+            position = matcher.end();
+        }
+        return Optional.of(path);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Outcome evaluate(RedisTemplate<String, String> redisTemplate,
+                            ObjectMapper objectMapper,
+                            String key,
+                            List<Check> checks,
+                            List<List<Object>> projection) {
+        Map<String, Object> spec = new LinkedHashMap<>();
+        spec.put("checks", checks);
+        spec.put("project", projection);
+
+        String argument;
+        try {
+            argument = objectMapper.writeValueAsString(spec);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode Redis predicate script arguments", e);
+        }
+
+        List<Object> reply = redisTemplate.execute(SCRIPT, List.of(key), argument);
+        if (reply == null || reply.size() < 2) {
+            return new Outcome(false, false, "predicate script returned no result", List.of());
+        }
+        long flag = reply.get(0) instanceof Number number ? number.longValue() : 0L;
+        String payload = String.valueOf(reply.get(1));
+        if (flag == 2L) {
+            return new Outcome(true, true, payload, List.of());
+        }
+        if (flag != 1L) {
+            return new Outcome(false, false, payload, List.of());
+        }
+        try {
+            return new Outcome(true, false, null, objectMapper.readValue(payload, new TypeReference<List<Object>>() {}));
+        } catch (JsonProcessingException e) {
+            return new Outcome(false, false, "failed to parse projection: " + e.getMessage(), List.of());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.testing.multisource.api.redis;
+
+import java.util.Map;
+
+public class RedisSnapshot {
+    private final Map<RedisSnapshotBuilder.Key<?>, Object> values;
+
+    RedisSnapshot(Map<RedisSnapshotBuilder.Key<?>, Object> values) {
+        this.values = values;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(RedisSnapshotBuilder.Key<T> key) {
+        if (!values.containsKey(key)) {
+            throw new IllegalArgumentException("Key '" + key.key() + "' is not part of this snapshot");
+        }
+        return (T) values.get(key);
+    }
+}
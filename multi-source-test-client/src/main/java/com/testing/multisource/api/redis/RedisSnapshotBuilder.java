@@ -0,0 +1,278 @@
+package com.testing.multisource.api.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.testing.multisource.api.attachment.AllureAttachmentService;
+import com.testing.multisource.api.attachment.AttachmentType;
+import com.testing.multisource.api.redis.config.RedisAwaitilityProperties;
+import com.testing.multisource.api.redis.exceptions.RedisRetryExhaustedException;
+import org.awaitility.core.ConditionTimeoutException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static org.awaitility.Awaitility.await;
+
+public class RedisSnapshotBuilder {
+    private final String beanName;
+    private final AllureAttachmentService attachmentService;
+    private final RedisAwaitilityProperties awaitilityProperties;
+    private final List<Key<?>> keys = new ArrayList<>();
+    private final List<CrossKeyExpectation> expectations = new ArrayList<>();
+    private Duration customTimeout;
+
+    RedisSnapshotBuilder(String beanName,
+                         AllureAttachmentService attachmentService,
+                         RedisAwaitilityProperties awaitilityProperties) {
+        this.beanName = beanName;
+        this.attachmentService = attachmentService;
+        this.awaitilityProperties = awaitilityProperties;
+    }
+
+    public <T> Key<T> key(GenericRedisClient<T> client, String key) {
+        if (!StringUtils.hasText(key)) {
+            throw new IllegalArgumentException("Redis key must not be null or blank");
+        }
+        Key<T> snapshotKey = new Key<>(client, key);
+        keys.add(snapshotKey);
+        return snapshotKey;
+    }
+
+    public RedisSnapshotBuilder expect(String description, Predicate<RedisSnapshot> predicate) {
+        expectations.add(new CrossKeyExpectation(description, predicate));
+        return this;
+    }
+
+    public RedisSnapshotBuilder within(Duration timeout) {
+        this.customTimeout = timeout;
+        return this;
+    }
+
+    public RedisSnapshot fetch() {
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("Redis snapshot requires at least one key");
+        }
+        Duration timeout = Optional.ofNullable(customTimeout).orElse(awaitilityProperties.defaultTimeout());
+
+        attachSearchInfo(timeout);
+
+        AtomicReference<Attempt> lastAttempt = new AtomicReference<>();
+        Instant start = Instant.now();
+        try {
+            Attempt result = await()
+                    .alias("Redis snapshot: " + keys.size() + " keys")
+                    .pollDelay(Duration.ZERO)
+                    .pollInterval(awaitilityProperties.pollInterval())
+                    .atMost(timeout)
+                    .ignoreExceptionsMatching(ex -> !(ex instanceof SnapshotDeserializationException))
+                    .until(() -> {
+                        Attempt attempt = attempt();
+                        lastAttempt.set(attempt);
+                        return attempt;
+                    }, Attempt::found);
+
+            attachmentService.attachText(AttachmentType.REDIS, "Snapshot Found", describe(result.rawValues()));
+            return result.snapshot();
+        } catch (SnapshotDeserializationException ex) {
+            attachmentService.attachText(AttachmentType.REDIS, "Snapshot Deserialization Error",
+                    ex.getMessage() + "\n\nRaw JSON:\n" + ex.rawJson);
+            throw new RedisRetryExhaustedException(ex.getMessage(), ex.getCause());
+        } catch (ConditionTimeoutException ex) {
+            Attempt attempt = lastAttempt.get();
+            String reason = attempt != null ? attempt.failureMessage() : "snapshot not read";
+            Duration elapsed = Duration.between(start, Instant.now());
+            attachmentService.attachText(AttachmentType.REDIS, "Snapshot Not Found",
+                    "Status: Не найдено за " + elapsed.toSeconds() + " секунд\nПоследняя причина: " + reason);
+            throw new RedisRetryExhaustedException(String.format(
+                    "[%s] Redis snapshot of %d keys did not match within %d seconds: %s",
+                    beanName, keys.size(), timeout.toSeconds(), reason));
+        }
+    }
+
+    // One MGET per Redis instance: every key of an instance is read atomically in a single round-trip.
+    private Attempt attempt() {
+        Map<String, List<Key<?>>> byInstance = new LinkedHashMap<>();
+        for (Key<?> key : keys) {
+            byInstance.computeIfAbsent(instanceId(key.client.redisTemplate()), ignored -> new ArrayList<>()).add(key);
+        }
+
+        Map<Key<?>, String> rawValues = new LinkedHashMap<>();
+        for (List<Key<?>> group : byInstance.values()) {
+            List<String> values = readGroup(group);
+            for (int i = 0; i < group.size(); i++) {
+                rawValues.put(group.get(i), values != null ? values.get(i) : null);
+            }
+        }
+
+        Map<Key<?>, Object> typedValues = new LinkedHashMap<>();
+        for (Key<?> key : keys) {
+            String rawValue = rawValues.get(key);
+            if (!StringUtils.hasText(rawValue)) {
+                return Attempt.notFound("key '" + key.key + "' value is null or empty", rawValues);
+            }
+            String mismatch = key.firstMismatch(rawValue);
+            if (mismatch != null) {
+                return Attempt.notFound("key '" + key.key + "': " + mismatch, rawValues);
+            }
+            typedValues.put(key, key.deserialize(rawValue));
+        }
+
+        RedisSnapshot snapshot = new RedisSnapshot(typedValues);
+        for (CrossKeyExpectation expectation : expectations) {
+            if (!expectation.predicate().test(snapshot)) {
+                return Attempt.notFound("expectation '" + expectation.description() + "' not met", rawValues);
+            }
+        }
+        return new Attempt(snapshot, rawValues, null);
+    }
+
+    // Reads take the client's own path: its connection stripe, the byte[] template and, for a lone key, the
+    // client-side cache. Several keys of one instance still share one MGET so their values stay consistent.
+    private static List<String> readGroup(List<Key<?>> group) {
+        GenericRedisClient<?> client = group.get(0).client;
+        List<String> keyNames = group.stream().map(Key::key).toList();
+        if (keyNames.size() == 1 && client.clientSideCache() != null) {
+            return Collections.singletonList(utf8(client.clientSideCache().get(keyNames.get(0))));
+        }
+        if (client.binaryTemplate() != null) {
+            List<byte[]> values = client.binaryTemplate().opsForValue().multiGet(keyNames);
+            return values != null ? values.stream().map(RedisSnapshotBuilder::utf8).toList() : null;
+        }
+        return client.templateFor(keyNames.get(0)).opsForValue().multiGet(keyNames);
+    }
+
+    private static String utf8(byte[] value) {
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    private static String instanceId(RedisTemplate<String, String> template) {
+        RedisConnectionFactory factory = template.getConnectionFactory();
+        if (factory instanceof LettuceConnectionFactory lettuce) {
+            return lettuce.getHostName() + ":" + lettuce.getPort() + "/" + lettuce.getDatabase();
+        }
+        return String.valueOf(System.identityHashCode(factory));
+    }
+
+    private void attachSearchInfo(Duration timeout) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Client Bean: ").append(beanName).append('\n');
+        builder.append("Timeout: ").append(timeout.toSeconds()).append("s\n");
+        builder.append("Keys:");
+        for (Key<?> key : keys) {
+            builder.append('\n').append(" - [").append(key.client.instanceName()).append("] ").append(key.key);
+            key.jsonPathFilters.forEach((path, value) -> builder.append("\n     ").append(path)
+                    .append(" == ").append(RedisExpectationBuilder.formatValue(value)));
+        }
+        if (!expectations.isEmpty()) {
+            builder.append("\nExpectations:");
+            expectations.forEach(expectation -> builder.append("\n - ").append(expectation.description()));
+        }
+        attachmentService.attachTextOnFailure(AttachmentType.REDIS, "Snapshot Search Info", builder.toString());
+    }
+
+    private String describe(Map<Key<?>, String> rawValues) {
+        StringBuilder builder = new StringBuilder("Status: Найдено\n");
+        rawValues.forEach((key, rawValue) -> {
+            builder.append("\n[").append(key.client.instanceName()).append("] ").append(key.key).append('\n');
+            try {
+                JsonNode tree = key.client.objectMapper().readTree(rawValue);
+                builder.append(tree.toPrettyString()).append('\n');
+            } catch (JsonProcessingException e) {
+                builder.append(rawValue).append('\n');
+            }
+        });
+        return builder.toString();
+    }
+
+    public static final class Key<T> {
+        private final GenericRedisClient<T> client;
+        private final String key;
+        private final Map<String, Object> jsonPathFilters = new LinkedHashMap<>();
+
+        private Key(GenericRedisClient<T> client, String key) {
+            this.client = client;
+            this.key = key;
+        }
+
+        public Key<T> with(String jsonPath, Object expectedValue) {
+            jsonPathFilters.put(RedisExpectationBuilder.normalize(jsonPath), expectedValue);
+            return this;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        private String firstMismatch(String rawValue) {
+            if (jsonPathFilters.isEmpty()) {
+                return null;
+            }
+            DocumentContext document;
+            try {
+                document = JsonPath.parse(rawValue);
+            } catch (Exception e) {
+                return "failed to parse JSON: " + e.getMessage();
+            }
+            for (Map.Entry<String, Object> filter : jsonPathFilters.entrySet()) {
+                Object actual;
+                try {
+                    actual = document.read(filter.getKey());
+                } catch (PathNotFoundException ex) {
+                    return "json path '" + filter.getKey() + "' not found";
+                }
+                if (!RedisExpectationBuilder.equalsConsideringNumbers(actual, filter.getValue())) {
+                    return "json path '" + filter.getKey() + "' == " + RedisExpectationBuilder.formatValue(filter.getValue())
+                            + " but was " + RedisExpectationBuilder.formatValue(actual);
+                }
+            }
+            return null;
+        }
+
+        private T deserialize(String rawValue) {
+            try {
+                return client.objectMapper().readValue(rawValue,
+                        client.objectMapper().constructType(client.typeReference().getType()));
+            } catch (JsonProcessingException e) {
+                throw new SnapshotDeserializationException(key, rawValue, e);
+            }
+        }
+    }
+
+    private record CrossKeyExpectation(String description, Predicate<RedisSnapshot> predicate) {
+    }
+
+    private record Attempt(RedisSnapshot snapshot, Map<Key<?>, String> rawValues, String failureMessage) {
+        static Attempt notFound(String message, Map<Key<?>, String> rawValues) {
+            return new Attempt(null, rawValues, message);
+        }
+
+        boolean found() {
+            return snapshot != null;
+        }
+    }
+
+    private static class SnapshotDeserializationException extends RuntimeException {
+        private final String rawJson;
+
+        SnapshotDeserializationException(String key, String rawJson, Throwable cause) {
+            super(String.format("Failed to deserialize redis key '%s': %s", key, cause.getMessage()), cause);
+            this.rawJson = rawJson;
+        }
+    }
+}
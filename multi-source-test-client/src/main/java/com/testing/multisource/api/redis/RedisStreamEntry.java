@@ -0,0 +1,6 @@
+package com.testing.multisource.api.redis;
+
+import java.util.Map;
+
+public record RedisStreamEntry(String id, Map<String, String> fields) {
+}
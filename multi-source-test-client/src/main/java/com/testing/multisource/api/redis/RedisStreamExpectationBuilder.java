@@ -0,0 +1,172 @@
+package com.testing.multisource.api.redis;
+
+import com.testing.multisource.api.attachment.AllureAttachmentService;
+import com.testing.multisource.api.attachment.AttachmentType;
+import com.testing.multisource.api.redis.config.RedisAwaitilityProperties;
+import com.testing.multisource.api.redis.exceptions.RedisRetryExhaustedException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class RedisStreamExpectationBuilder {
+    private static final long BLOCK_SLICE_MS = 1000;
+    private static final long READ_BATCH = 100;
+
+    private final String beanName;
+    private final String instanceName;
+    private final String key;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AllureAttachmentService attachmentService;
+    private final RedisAwaitilityProperties awaitilityProperties;
+    private final Map<String, Object> expectedFields = new LinkedHashMap<>();
+    private String fromId = "0-0";
+    private Duration customTimeout;
+
+    RedisStreamExpectationBuilder(String beanName,
+                                  String instanceName,
+                                  String key,
+                                  RedisTemplate<String, String> redisTemplate,
+                                  AllureAttachmentService attachmentService,
+                                  RedisAwaitilityProperties awaitilityProperties) {
+        if (!StringUtils.hasText(key)) {
+            throw new IllegalArgumentException("Redis key must not be null or blank");
+        }
+        this.beanName = beanName;
+        this.instanceName = instanceName;
+        this.key = key;
+        this.redisTemplate = redisTemplate;
+        this.attachmentService = attachmentService;
+        this.awaitilityProperties = awaitilityProperties;
+    }
+
+    // Entries with ids greater than recordId are considered; the default scans the stream from the start.
+    public RedisStreamExpectationBuilder from(String recordId) {
+        this.fromId = recordId;
+        return this;
+    }
+
+    public RedisStreamExpectationBuilder with(String field, Object expectedValue) {
+        expectedFields.put(field, expectedValue);
+        return this;
+    }
+
+    public RedisStreamExpectationBuilder within(Duration timeout) {
+        this.customTimeout = timeout;
+        return this;
+    }
+
+    public List<RedisStreamEntry> range(String startId, String endId) {
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        List<MapRecord<String, String, String>> records = stream.range(key, Range.closed(startId, endId));
+        return records == null ? List.of() : records.stream().map(this::toEntry).toList();
+    }
+
+    // XREAD BLOCK wakes up as soon as an entry is appended; existing entries after fromId come back immediately.
+    public RedisStreamEntry fetch() {
+        Duration timeout = Optional.ofNullable(customTimeout).orElse(awaitilityProperties.defaultTimeout());
+        attachSearchInfo(timeout);
+
+        StreamOperations<String, String, String> stream = redisTemplate.opsForStream();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String lastId = fromId;
+        String lastReason = "no entries after " + fromId;
+        int scanned = 0;
+
+        while (true) {
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMs <= 0) {
+                break;
+            }
+            List<MapRecord<String, String, String>> records;
+            try {
+                records = stream.read(
+                        StreamReadOptions.empty().count(READ_BATCH).block(Duration.ofMillis(Math.min(remainingMs, BLOCK_SLICE_MS))),
+                        StreamOffset.create(key, ReadOffset.from(lastId)));
+            } catch (RuntimeException e) {
+                lastReason = "read failed: " + e.getMessage();
+                pause(Math.min(remainingMs, awaitilityProperties.pollInterval().toMillis()));
+                continue;
+            }
+            if (records == null) {
+                continue;
+            }
+            for (MapRecord<String, String, String> record : records) {
+                RedisStreamEntry entry = toEntry(record);
+                lastId = entry.id();
+                scanned++;
+                String mismatch = firstMismatch(entry);
+                if (mismatch == null) {
+                    attachmentService.attachText(AttachmentType.REDIS, "Found Stream Entry",
+                            "Key: " + key + "\nStatus: Найдено\nId: " + entry.id() + "\n\n" + format(entry.fields()));
+                    return entry;
+                }
+                lastReason = "entry " + entry.id() + ": " + mismatch;
+            }
+        }
+
+        attachmentService.attachText(AttachmentType.REDIS, "Stream Entry Not Found",
+                "Key: " + key + "\nПросмотрено записей: " + scanned + "\nПоследняя причина: " + lastReason);
+        throw new RedisRetryExhaustedException(String.format(
+                "[%s] No entry of stream '%s' matched within %d seconds: %s",
+                instanceName, key, timeout.toSeconds(), lastReason));
+    }
+
+    private String firstMismatch(RedisStreamEntry entry) {
+        for (Map.Entry<String, Object> expected : expectedFields.entrySet()) {
+            String actual = entry.fields().get(expected.getKey());
+            if (!RedisExpectationBuilder.matchesFieldValue(actual, expected.getValue())) {
+                return "field '" + expected.getKey() + "' == " + RedisExpectationBuilder.formatValue(expected.getValue())
+                        + " but was " + RedisExpectationBuilder.formatValue(actual);
+            }
+        }
+        return null;
+    }
+
+    private RedisStreamEntry toEntry(MapRecord<String, String, String> record) {
+        return new RedisStreamEntry(record.getId().getValue(), Map.copyOf(record.getValue()));
+    }
+
+    private void pause(long millis) {
+        try {
+            Thread.sleep(Math.max(millis, 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisRetryExhaustedException(String.format(
+                    "[%s] Interrupted while waiting for stream '%s'", instanceName, key), e);
+        }
+    }
+
+    private void attachSearchInfo(Duration timeout) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("Client Bean: ").append(beanName).append('\n');
+        builder.append("Redis Instance: ").append(instanceName).append('\n');
+        builder.append("Key: ").append(key).append(" (stream)\n");
+        builder.append("Timeout: ").append(timeout.toSeconds()).append("s\n");
+        builder.append("From: ").append(fromId).append('\n');
+        if (expectedFields.isEmpty()) {
+            builder.append("Filters: [none]");
+        } else {
+            builder.append("Filters:");
+            expectedFields.forEach((field, value) -> builder.append("\n - ").append(field)
+                    .append(" == ").append(RedisExpectationBuilder.formatValue(value)));
+        }
+        attachmentService.attachTextOnFailure(AttachmentType.REDIS, "Search Info", builder.toString());
+    }
+
+    private String format(Map<String, String> fields) {
+        StringBuilder builder = new StringBuilder();
+        fields.forEach((field, value) -> builder.append(field).append(": ").append(value).append('\n'));
+        return builder.toString();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.util.StringUtils;
 
 public class RedisTypeMappingRegistry {
     private final Map<String, TypeReference<?>> mappings = new LinkedHashMap<>();
+    private final Map<String, String> versionFields = new LinkedHashMap<>();
 
     public RedisTypeMappingRegistry register(String clientName, TypeReference<?> reference) {
         if (!StringUtils.hasText(clientName)) {
@@ -18,6 +19,20 @@ public class RedisTypeMappingRegistry {
         return this;
     }
 
+    // versionField is a top-level field rewritten on every update (e.g. a sequence number);
+    // pollers compare it with STRLEN + GETRANGE before transferring the whole value.
+    public RedisTypeMappingRegistry register(String clientName, TypeReference<?> reference, String versionField) {
+        register(clientName, reference);
+        if (StringUtils.hasText(versionField)) {
+            versionFields.put(clientName, versionField);
+        }
+        return this;
+    }
+
+    public String versionField(String clientName) {
+        return versionFields.get(clientName);
+    }
+
     @SuppressWarnings("unchecked")
     public <T> TypeReference<T> resolve(String clientName) {
         if (!StringUtils.hasText(clientName)) {
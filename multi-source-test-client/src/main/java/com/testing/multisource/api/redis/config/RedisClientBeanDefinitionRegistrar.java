@@ -4,10 +4,12 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import com.testing.multisource.config.modules.redis.RedisModuleProperties;
 import com.testing.multisource.config.modules.redis.RedisInstanceProperties;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
 import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.beans.factory.support.ManagedList;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.boot.context.properties.bind.BindException;
 import org.springframework.boot.context.properties.bind.Bindable;
@@ -18,10 +20,15 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.StringUtils;
 
 import com.testing.multisource.api.redis.GenericRedisClient;
+import com.testing.multisource.api.redis.RedisClientSideCache;
+import com.testing.multisource.api.redis.RedisCoalescingPoller;
+import com.testing.multisource.api.redis.RedisConnectionStripes;
+import com.testing.multisource.api.redis.RedisKeyspaceNotifier;
 
 import java.time.Duration;
 import java.util.Locale;
@@ -80,6 +87,32 @@ public class RedisClientBeanDefinitionRegistrar implements BeanDefinitionRegistr
                 registerTemplate(registry, templateBeanName, connectionBeanName);
             }
 
+            String notifierBeanName = keyspaceNotifierBeanName(name);
+            if (props.isKeyspaceNotifications() && !registry.containsBeanDefinition(notifierBeanName)) {
+                registerKeyspaceNotifier(registry, notifierBeanName, name, connectionBeanName, props);
+            }
+
+            int stripes = Math.max(props.getConnectionStripes(), 1);
+            String stripesBeanName = connectionStripesBeanName(name);
+            if (stripes > 1 && !registry.containsBeanDefinition(stripesBeanName)) {
+                registerConnectionStripes(registry, stripesBeanName, name, stripes, props);
+            }
+
+            String binaryTemplateBeanName = binaryTemplateBeanName(name);
+            if (props.isBinaryValues() && !registry.containsBeanDefinition(binaryTemplateBeanName)) {
+                registerBinaryTemplate(registry, binaryTemplateBeanName, connectionBeanName);
+            }
+
+            String cacheBeanName = clientSideCacheBeanName(name);
+            if (props.isClientSideCaching() && !registry.containsBeanDefinition(cacheBeanName)) {
+                registerClientSideCache(registry, cacheBeanName, name, props);
+            }
+
+            String pollerBeanName = coalescingPollerBeanName(name);
+            if (props.isCoalescePolls() && !registry.containsBeanDefinition(pollerBeanName)) {
+                registerCoalescingPoller(registry, pollerBeanName, name, templateBeanName);
+            }
+
             BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(GenericRedisClient.class);
             builder.setAutowireMode(GenericBeanDefinition.AUTOWIRE_CONSTRUCTOR);
             builder.addConstructorArgValue(beanName);
@@ -89,6 +122,32 @@ public class RedisClientBeanDefinitionRegistrar implements BeanDefinitionRegistr
             builder.addConstructorArgReference("jacksonObjectMapper");
             builder.addConstructorArgReference("allureAttachmentService");
             builder.addConstructorArgReference("redisAwaitilityProperties");
+            if (props.isKeyspaceNotifications()) {
+                builder.addConstructorArgReference(notifierBeanName);
+            } else {
+                builder.addConstructorArgValue(null);
+            }
+            builder.addConstructorArgValue(props.isServerSidePredicates());
+            if (props.isCoalescePolls()) {
+                builder.addConstructorArgReference(pollerBeanName);
+            } else {
+                builder.addConstructorArgValue(null);
+            }
+            if (stripes > 1) {
+                builder.addConstructorArgReference(stripesBeanName);
+            } else {
+                builder.addConstructorArgValue(null);
+            }
+            if (props.isBinaryValues()) {
+                builder.addConstructorArgReference(binaryTemplateBeanName);
+            } else {
+                builder.addConstructorArgValue(null);
+            }
+            if (props.isClientSideCaching()) {
+                builder.addConstructorArgReference(cacheBeanName);
+            } else {
+                builder.addConstructorArgValue(null);
+            }
 
             RootBeanDefinition beanDefinition = (RootBeanDefinition) builder.getBeanDefinition();
             beanDefinition.setTargetType(GenericRedisClient.class);
@@ -112,6 +171,7 @@ public class RedisClientBeanDefinitionRegistrar implements BeanDefinitionRegistr
         BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(LettuceConnectionFactory.class);
         builder.addConstructorArgValue(standalone);
         builder.addConstructorArgValue(clientConfig);
+        builder.addPropertyValue("shareNativeConnection", props.isShareNativeConnection());
         builder.setDestroyMethodName("destroy");
         registry.registerBeanDefinition(beanName, builder.getBeanDefinition());
     }
@@ -144,6 +204,59 @@ public class RedisClientBeanDefinitionRegistrar implements BeanDefinitionRegistr
                 .build();
     }
 
+    private void registerKeyspaceNotifier(BeanDefinitionRegistry registry,
+                                          String beanName,
+                                          String instanceName,
+                                          String connectionFactoryBeanName,
+                                          RedisInstanceProperties props) {
+        Duration safetyPollInterval = props.getSafetyPollInterval() != null
+                ? props.getSafetyPollInterval()
+                : Duration.ofSeconds(2);
+
+        BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(RedisKeyspaceNotifier.class);
+        builder.addConstructorArgValue(instanceName);
+        builder.addConstructorArgReference(connectionFactoryBeanName);
+        builder.addConstructorArgValue(props.getDatabase());
+        builder.addConstructorArgValue(safetyPollInterval);
+        registry.registerBeanDefinition(beanName, builder.getBeanDefinition());
+    }
+
+    // Stripe 0 reuses the regular factory and template; every extra stripe is one more native connection.
+    private void registerConnectionStripes(BeanDefinitionRegistry registry,
+                                           String beanName,
+                                           String instanceName,
+                                           int stripes,
+                                           RedisInstanceProperties props) {
+        ManagedList<RuntimeBeanReference> templates = new ManagedList<>();
+        templates.add(new RuntimeBeanReference(templateBeanName(instanceName)));
+        for (int stripe = 1; stripe < stripes; stripe++) {
+            String connectionBeanName = connectionFactoryBeanName(instanceName) + stripe;
+            String templateBeanName = templateBeanName(instanceName) + stripe;
+            if (!registry.containsBeanDefinition(connectionBeanName)) {
+                registerConnectionFactory(registry, connectionBeanName, props);
+            }
+            if (!registry.containsBeanDefinition(templateBeanName)) {
+                registerTemplate(registry, templateBeanName, connectionBeanName);
+            }
+            templates.add(new RuntimeBeanReference(templateBeanName));
+        }
+
+        BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(RedisConnectionStripes.class);
+        builder.addConstructorArgValue(templates);
+        registry.registerBeanDefinition(beanName, builder.getBeanDefinition());
+    }
+
+    private void registerCoalescingPoller(BeanDefinitionRegistry registry,
+                                          String beanName,
+                                          String instanceName,
+                                          String templateBeanName) {
+        BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(RedisCoalescingPoller.class);
+        builder.addConstructorArgValue(instanceName);
+        builder.addConstructorArgReference(templateBeanName);
+        builder.addConstructorArgReference("redisAwaitilityProperties");
+        registry.registerBeanDefinition(beanName, builder.getBeanDefinition());
+    }
+
     private void registerTemplate(BeanDefinitionRegistry registry,
                                    String templateBeanName,
                                    String connectionFactoryBeanName) {
@@ -162,6 +275,53 @@ public class RedisClientBeanDefinitionRegistrar implements BeanDefinitionRegistr
         return instanceName + "RedisConnectionFactory";
     }
 
+    private String keyspaceNotifierBeanName(String instanceName) {
+        return instanceName + "RedisKeyspaceNotifier";
+    }
+
+    private void registerBinaryTemplate(BeanDefinitionRegistry registry,
+                                        String templateBeanName,
+                                        String connectionFactoryBeanName) {
+        BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(RedisTemplate.class);
+        builder.addPropertyReference("connectionFactory", connectionFactoryBeanName);
+        builder.addPropertyValue("keySerializer", new StringRedisSerializer());
+        builder.addPropertyValue("valueSerializer", RedisSerializer.byteArray());
+        builder.addPropertyValue("hashKeySerializer", new StringRedisSerializer());
+        builder.addPropertyValue("hashValueSerializer", RedisSerializer.byteArray());
+        builder.setInitMethodName("afterPropertiesSet");
+        registry.registerBeanDefinition(templateBeanName, builder.getBeanDefinition());
+    }
+
+    private void registerClientSideCache(BeanDefinitionRegistry registry,
+                                         String beanName,
+                                         String instanceName,
+                                         RedisInstanceProperties props) {
+        BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(RedisClientSideCache.class);
+        builder.addConstructorArgValue(instanceName);
+        builder.addConstructorArgValue(props.getHost());
+        builder.addConstructorArgValue(props.getPort());
+        builder.addConstructorArgValue(props.getDatabase());
+        builder.addConstructorArgValue(props.getPassword());
+        builder.addConstructorArgValue(props.getTimeout());
+        registry.registerBeanDefinition(beanName, builder.getBeanDefinition());
+    }
+
+    private String clientSideCacheBeanName(String instanceName) {
+        return instanceName + "RedisClientSideCache";
+    }
+
+    private String binaryTemplateBeanName(String instanceName) {
+        return instanceName + "RedisBinaryTemplate";
+    }
+
+    private String connectionStripesBeanName(String instanceName) {
+        return instanceName + "RedisConnectionStripes";
+    }
+
+    private String coalescingPollerBeanName(String instanceName) {
+        return instanceName + "RedisCoalescingPoller";
+    }
+
     private String templateBeanName(String instanceName) {
         return instanceName + "RedisTemplate";
     }
@@ -82,6 +82,15 @@ public class DynamicPropertiesConfigurator implements ApplicationContextInitiali
                 properties.add("app.db.retry-timeout-seconds=" + dbConfig.retryTimeoutSeconds());
                 properties.add("app.db.retry-poll-interval-ms=" + dbConfig.retryPollIntervalMs());
                 properties.add("app.db.retry-poll-delay-ms=" + dbConfig.retryPollDelayMs());
+                if (dbConfig.binlogCdc()) {
+                    properties.add("app.db." + name + ".binlog.enabled=true");
+                    properties.add("app.db." + name + ".binlog.host=" + dbConfig.host());
+                    properties.add("app.db." + name + ".binlog.port=" + dbConfig.port());
+                    properties.add("app.db." + name + ".binlog.schema=" + dbNameForUrl);
+                    if (dbConfig.binlogServerId() != null) {
+                        properties.add("app.db." + name + ".binlog.server-id=" + dbConfig.binlogServerId());
+                    }
+                }
             });
         }
 
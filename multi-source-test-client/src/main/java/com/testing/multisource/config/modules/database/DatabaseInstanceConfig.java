@@ -11,7 +11,9 @@ public record DatabaseInstanceConfig(
         String password,
         @JsonProperty("retryTimeoutSeconds") int retryTimeoutSeconds,
         @JsonProperty("retryPollIntervalMs") long retryPollIntervalMs,
-        @JsonProperty("retryPollDelayMs") long retryPollDelayMs
+        @JsonProperty("retryPollDelayMs") long retryPollDelayMs,
+        @JsonProperty("binlogCdc") boolean binlogCdc,
+        @JsonProperty("binlogServerId") Long binlogServerId
 ) {
     public int getRetryTimeoutSeconds() {
         return retryTimeoutSeconds;
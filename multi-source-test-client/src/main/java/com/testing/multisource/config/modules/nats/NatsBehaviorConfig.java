@@ -2,5 +2,6 @@ package com.testing.multisource.config.modules.nats;
 
 public record NatsBehaviorConfig(
         long searchTimeoutSeconds,
+        long directGetPollIntervalMs,
         boolean failOnDeserialization
 ) {}
@@ -9,19 +9,35 @@ public record NatsConfig(
         long subscriptionRetryDelayMs,
         long connectReconnectWaitSeconds,
         int connectMaxReconnects,
+        int connectionPoolSize,
         long searchTimeoutSeconds,
         long subscriptionAckWaitSeconds,
         long subscriptionInactiveThresholdSeconds,
         int subscriptionBufferSize,
+        int dispatcherPoolSize,
         long uniqueDuplicateWindowMs,
+        long uniqueCatchUpGraceMs,
+        long directGetPollIntervalMs,
         boolean failOnDeserialization
 ) {
     public NatsConfig {
         if (hosts == null) {
             hosts = List.of();
         }
+        if (connectionPoolSize <= 0) {
+            connectionPoolSize = 1;
+        }
+        if (dispatcherPoolSize <= 0) {
+            dispatcherPoolSize = Runtime.getRuntime().availableProcessors();
+        }
         if (uniqueDuplicateWindowMs == 0) {
             uniqueDuplicateWindowMs = 400;
         }
+        if (uniqueCatchUpGraceMs < 0) {
+            uniqueCatchUpGraceMs = 50;
+        }
+        if (directGetPollIntervalMs <= 0) {
+            directGetPollIntervalMs = 100;
+        }
     }
 }
@@ -5,5 +5,6 @@ import java.util.List;
 public record NatsConnectionConfig(
         List<String> hosts,
         long connectReconnectWaitSeconds,
-        int connectMaxReconnects
+        int connectMaxReconnects,
+        int connectionPoolSize
 ) {}
@@ -13,20 +13,37 @@ public record NatsModuleProperties(
         long subscriptionRetryDelayMs,
         long connectReconnectWaitSeconds,
         int connectMaxReconnects,
+        int connectionPoolSize,
         long searchTimeoutSeconds,
         long subscriptionAckWaitSeconds,
         long subscriptionInactiveThresholdSeconds,
         int subscriptionBufferSize,
+        int dispatcherPoolSize,
         long uniqueDuplicateWindowMs,
+        Long uniqueCatchUpGraceMs,
+        long directGetPollIntervalMs,
         boolean failOnDeserialization
 ) {
     public NatsModuleProperties {
         if (hosts == null) {
             hosts = List.of();
         }
+        if (connectionPoolSize <= 0) {
+            connectionPoolSize = 1;
+        }
+        if (dispatcherPoolSize <= 0) {
+            dispatcherPoolSize = Runtime.getRuntime().availableProcessors();
+        }
         if (uniqueDuplicateWindowMs == 0) {
             uniqueDuplicateWindowMs = 400;
         }
+        // Unset means the default; 0 is a valid grace that completes a unique wait as soon as it has caught up.
+        if (uniqueCatchUpGraceMs == null || uniqueCatchUpGraceMs < 0) {
+            uniqueCatchUpGraceMs = 50L;
+        }
+        if (directGetPollIntervalMs <= 0) {
+            directGetPollIntervalMs = 100;
+        }
     }
 
     
@@ -39,11 +56,15 @@ public record NatsModuleProperties(
                 subscriptionRetryDelayMs,
                 connectReconnectWaitSeconds,
                 connectMaxReconnects,
+                connectionPoolSize,
                 searchTimeoutSeconds,
                 subscriptionAckWaitSeconds,
                 subscriptionInactiveThresholdSeconds,
                 subscriptionBufferSize,
+                dispatcherPoolSize,
                 uniqueDuplicateWindowMs,
+                uniqueCatchUpGraceMs,
+                directGetPollIntervalMs,
                 failOnDeserialization
         );
     }
@@ -54,14 +75,15 @@ public record NatsModuleProperties(
         return new NatsConnectionConfig(
                 hosts,
                 connectReconnectWaitSeconds,
-                connectMaxReconnects
+                connectMaxReconnects,
+                connectionPoolSize
         );
     }
 
     
 
     public NatsStreamConfig stream() {
-        return new NatsStreamConfig(streamName, uniqueDuplicateWindowMs);
+        return new NatsStreamConfig(streamName, uniqueDuplicateWindowMs, uniqueCatchUpGraceMs);
     }
 
     
@@ -72,13 +94,14 @@ public record NatsModuleProperties(
                 subscriptionRetryDelayMs,
                 subscriptionAckWaitSeconds,
                 subscriptionInactiveThresholdSeconds,
-                subscriptionBufferSize
+                subscriptionBufferSize,
+                dispatcherPoolSize
         );
     }
 
     
 
     public NatsBehaviorConfig behavior() {
-        return new NatsBehaviorConfig(searchTimeoutSeconds, failOnDeserialization);
+        return new NatsBehaviorConfig(searchTimeoutSeconds, directGetPollIntervalMs, failOnDeserialization);
     }
 }
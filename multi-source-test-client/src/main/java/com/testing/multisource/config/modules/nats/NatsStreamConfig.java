@@ -2,5 +2,6 @@ package com.testing.multisource.config.modules.nats;
 
 public record NatsStreamConfig(
         String streamName,
-        long uniqueDuplicateWindowMs
+        long uniqueDuplicateWindowMs,
+        long uniqueCatchUpGraceMs
 ) {}
@@ -5,5 +5,6 @@ public record NatsSubscriptionConfig(
         long subscriptionRetryDelayMs,
         long subscriptionAckWaitSeconds,
         long subscriptionInactiveThresholdSeconds,
-        int subscriptionBufferSize
+        int subscriptionBufferSize,
+        int dispatcherPoolSize
 ) {}
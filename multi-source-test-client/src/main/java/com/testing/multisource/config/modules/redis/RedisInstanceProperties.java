@@ -11,6 +11,14 @@ public class RedisInstanceProperties {
     private int database = 0;
     private String password;
     private Duration timeout = Duration.ofSeconds(60);
+    private boolean keyspaceNotifications = false;
+    private Duration safetyPollInterval = Duration.ofSeconds(2);
+    private boolean serverSidePredicates = false;
+    private boolean coalescePolls = false;
+    private boolean shareNativeConnection = true;
+    private int connectionStripes = 1;
+    private boolean binaryValues = false;
+    private boolean clientSideCaching = false;
     private LettucePoolProperties lettucePool = new LettucePoolProperties();
 
     @Data
@@ -0,0 +1,103 @@
+-- KEYS[1]: key holding a JSON document
+-- ARGV[1]: {"checks":[{"label":"$.a","path":["a"],"op":"eq"|"gte","value":...}],"project":[["a","b",0]]}
+-- Returns {1, projectionJson} when every check passes, otherwise {0, reason}; {2, reason} asks the caller to project
+-- client-side because a projected number cannot be returned exactly.
+local raw = redis.call('GET', KEYS[1])
+if not raw then
+    return {0, 'value is null or empty'}
+end
+
+local ok, doc = pcall(cjson.decode, raw)
+if not ok then
+    return {0, 'failed to parse JSON'}
+end
+
+local spec = cjson.decode(ARGV[1])
+
+local function resolve(node, path)
+    for _, segment in ipairs(path) do
+        if type(node) ~= 'table' then
+            return nil, false
+        end
+        if type(segment) == 'number' then
+            node = node[segment + 1]
+        else
+            node = node[segment]
+        end
+        if node == nil then
+            return nil, false
+        end
+    end
+    return node, true
+end
+
+local function describe(value)
+    if value == cjson.null then
+        return 'null'
+    end
+    if type(value) == 'string' then
+        return '"' .. value .. '"'
+    end
+    if type(value) == 'table' then
+        return cjson.encode(value)
+    end
+    return tostring(value)
+end
+
+for _, check in ipairs(spec.checks) do
+    local actual, found = resolve(doc, check.path)
+    if not found then
+        return {0, "json path '" .. check.label .. "' not found"}
+    end
+    if check.op == 'eq' then
+        local expected = check.value
+        if expected == nil then
+            expected = cjson.null
+        end
+        if actual ~= expected then
+            return {0, "json path '" .. check.label .. "' == " .. describe(expected) .. ' but was ' .. describe(actual)}
+        end
+    elseif check.op == 'gte' then
+        if type(actual) ~= 'number' or actual < check.value then
+            return {0, "json path '" .. check.label .. "' >= " .. describe(check.value) .. ' but was ' .. describe(actual)}
+        end
+    end
+end
+
+local projection = {}
+for i, path in ipairs(spec.project) do
+    local value, found = resolve(doc, path)
+    if found then
+        projection[i] = value
+    else
+        projection[i] = cjson.null
+    end
+end
+
+if #spec.project == 0 then
+    return {1, '[]'}
+end
+
+-- cjson decodes numbers to doubles and encodes them with 14 significant digits, so values beyond 2^53 or with more
+-- digits would come back rounded.
+local function exact(value)
+    if type(value) == 'number' then
+        return math.abs(value) < 2 ^ 53 and tonumber(string.format('%.14g', value)) == value
+    end
+    if type(value) == 'table' then
+        for _, nested in pairs(value) do
+            if not exact(nested) then
+                return false
+            end
+        end
+    end
+    return true
+end
+
+for i, path in ipairs(spec.project) do
+    if not exact(projection[i]) then
+        return {2, 'projected number at path #' .. i .. ' cannot be returned exactly'}
+    end
+end
+
+return {1, cjson.encode(projection)}
@@ -3,10 +3,17 @@ package com.uplatform.wallet_tests.api.db;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.testing.multisource.api.attachment.AllureAttachmentService;
 import com.testing.multisource.api.db.AbstractDatabaseClient;
+import com.testing.multisource.api.db.ReadOnlyJdbcQueries;
+import com.testing.multisource.api.db.ReferenceDataCache;
 import com.uplatform.wallet_tests.api.db.entity.core.*;
 import com.uplatform.wallet_tests.api.db.repository.core.*;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +22,9 @@ import java.util.function.Supplier;
 @Component
 @Slf4j
 public class CoreDatabaseClient extends AbstractDatabaseClient {
+    private static final String GAME_REGION = "core.game";
+    private static final String GAME_PROVIDER_REGION = "core.game-provider";
+
     private final CoreGameSessionRepository coreGameSessionRepository;
     private final CoreGameRepository coreGameRepository;
     private final CoreWalletRepository coreWalletRepository;
@@ -22,6 +32,9 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
     private final CoreBrandRepository coreBrandRepository;
     private final CoreGameCategoryRepository coreGameCategoryRepository;
     private final CoreGameCategoriesGamesRepository coreGameCategoriesGamesRepository;
+    private final ReadOnlyJdbcQueries readOnlyQueries;
+    private final ReferenceDataCache referenceDataCache;
+    private final EntityManagerFactory entityManagerFactory;
 
     public CoreDatabaseClient(AllureAttachmentService attachmentService,
                               CoreGameSessionRepository coreGameSessionRepository,
@@ -31,8 +44,12 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
                               CoreBrandRepository coreBrandRepository,
                               CoreGameCategoryRepository coreGameCategoryRepository,
                               CoreGameCategoriesGamesRepository coreGameCategoriesGamesRepository,
-                              ObjectMapper objectMapper) {
-        super(attachmentService);
+                              ObjectMapper objectMapper,
+                              @Qualifier("coreTransactionManager") PlatformTransactionManager transactionManager,
+                              @Qualifier("coreReadOnlyQueries") ReadOnlyJdbcQueries readOnlyQueries,
+                              ReferenceDataCache referenceDataCache,
+                              @Qualifier("coreEntityManagerFactory") EntityManagerFactory entityManagerFactory) {
+        super(attachmentService, transactionManager);
         this.coreGameSessionRepository = coreGameSessionRepository;
         this.coreGameRepository = coreGameRepository;
         this.coreWalletRepository = coreWalletRepository;
@@ -40,7 +57,25 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
         this.coreBrandRepository = coreBrandRepository;
         this.coreGameCategoryRepository = coreGameCategoryRepository;
         this.coreGameCategoriesGamesRepository = coreGameCategoriesGamesRepository;
+        this.readOnlyQueries = readOnlyQueries;
+        this.referenceDataCache = referenceDataCache;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void prewarmReferenceData() {
+        referenceDataCache.prewarm("core game providers", () -> coreGameProviderRepository.findAll()
+                .forEach(provider -> referenceDataCache.put(GAME_PROVIDER_REGION, provider.getId(), provider)));
+    }
 
+    public void evictGame(int gameId) {
+        referenceDataCache.invalidate(GAME_REGION, gameId);
+        entityManagerFactory.getCache().evict(CoreGame.class, gameId);
+    }
+
+    public void evictGameProvider(int providerId) {
+        referenceDataCache.invalidate(GAME_PROVIDER_REGION, providerId);
+        entityManagerFactory.getCache().evict(GameProvider.class, providerId);
     }
 
     public CoreGameSession findLatestGameSessionByPlayerUuidOrFail(String playerUuid) {
@@ -57,7 +92,8 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
 
         Supplier<Optional<CoreGame>> querySupplier = () ->
                 coreGameRepository.findById(gameId);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return cachedOrAwait(referenceDataCache, GAME_REGION, gameId,
+                description, attachmentNamePrefix, querySupplier);
     }
 
     public CoreWallet findWalletByIdOrFail(int walletId) {
@@ -76,7 +112,8 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
         Supplier<Optional<GameProvider>> querySupplier = () ->
                 coreGameProviderRepository.findById(providerId);
 
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return cachedOrAwait(referenceDataCache, GAME_PROVIDER_REGION, providerId,
+                description, attachmentNamePrefix, querySupplier);
     }
 
     public CoreBrand findBrandByUuidOrFail(String uuid) {
@@ -99,6 +136,17 @@ public class CoreDatabaseClient extends AbstractDatabaseClient {
         return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
     }
 
+    public CoreGameCategoryView findCategoryViewByUuidOrFail(String uuid) {
+        String description = String.format("core Category view by uuid '%s'", uuid);
+        String attachmentNamePrefix = String.format("Core Category View [uuid: %s]", uuid);
+
+        Supplier<Optional<CoreGameCategoryView>> querySupplier = () ->
+                readOnlyQueries.findOne(CoreGameCategoryView.SELECT_BY_UUID,
+                        CoreGameCategoryView.rowMapper(readOnlyQueries), uuid);
+
+        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+    }
+
     public Optional<CoreGameCategory> findCategoryByUuid(String uuid) {
         return coreGameCategoryRepository.findByUuid(uuid);
     }
@@ -4,7 +4,9 @@ import com.testing.multisource.api.db.AbstractDatabaseClient;
 import com.testing.multisource.api.attachment.AllureAttachmentService;
 import com.uplatform.wallet_tests.api.db.repository.player.AccountPropertyRepository;
 import com.uplatform.wallet_tests.api.db.repository.player.AccountPropertyStatusProjection;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -20,8 +22,9 @@ public class PlayerDatabaseClient extends AbstractDatabaseClient {
     private final AccountPropertyRepository accountPropertyRepository;
 
     public PlayerDatabaseClient(AllureAttachmentService attachmentService,
-                                AccountPropertyRepository accountPropertyRepository) {
-        super(attachmentService);
+                                AccountPropertyRepository accountPropertyRepository,
+                                @Qualifier("playerTransactionManager") PlatformTransactionManager transactionManager) {
+        super(attachmentService, transactionManager);
         this.accountPropertyRepository = accountPropertyRepository;
     }
 
@@ -1,12 +1,16 @@
 package com.uplatform.wallet_tests.api.db;
 import com.testing.multisource.api.db.AbstractDatabaseClient;
+import com.testing.multisource.api.db.DatabaseBatchLookup;
+import com.testing.multisource.api.db.MysqlBinlogChangeFeed;
 
 import com.uplatform.wallet_tests.api.db.entity.wallet.*;
 import com.uplatform.wallet_tests.api.db.repository.wallet.*;
 import com.testing.multisource.api.attachment.AllureAttachmentService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -21,6 +25,8 @@ public class WalletDatabaseClient extends AbstractDatabaseClient {
     private final WalletGameSessionRepository walletGameSessionRepository;
     private final WalletRepository walletRepository;
     private final BettingProjectionIframeHistoryRepository iframeHistoryRepository;
+    private final DatabaseBatchLookup<String, GamblingProjectionTransactionHistory> transactionLookup;
+    private final DatabaseBatchLookup<String, PlayerThresholdWin> thresholdWinLookup;
 
     public WalletDatabaseClient(AllureAttachmentService attachmentService,
                                 GamblingProjectionTransactionHistoryRepository transactionRepository,
@@ -28,53 +34,53 @@ public class WalletDatabaseClient extends AbstractDatabaseClient {
                                 PlayerThresholdDepositRepository playerThresholdDepositRepository,
                                 WalletGameSessionRepository walletGameSessionRepository,
                                 WalletRepository walletRepository,
-                                BettingProjectionIframeHistoryRepository iframeHistoryRepository) {
-        super(attachmentService);
+                                BettingProjectionIframeHistoryRepository iframeHistoryRepository,
+                                @Qualifier("walletTransactionManager") PlatformTransactionManager transactionManager,
+                                @Qualifier("walletChangeFeed") ObjectProvider<MysqlBinlogChangeFeed> changeFeed) {
+        super(attachmentService, transactionManager);
+        useChangeFeed(changeFeed.getIfAvailable());
         this.transactionRepository = transactionRepository;
         this.playerThresholdWinRepository = playerThresholdWinRepository;
         this.playerThresholdDepositRepository = playerThresholdDepositRepository;
         this.walletGameSessionRepository = walletGameSessionRepository;
         this.walletRepository = walletRepository;
         this.iframeHistoryRepository = iframeHistoryRepository;
+        this.transactionLookup = batchLookup("wallet-transaction-history",
+                transactionRepository::findAllById, GamblingProjectionTransactionHistory::getUuid);
+        this.thresholdWinLookup = batchLookup("wallet-threshold-win",
+                playerThresholdWinRepository::findAllById, PlayerThresholdWin::getPlayerUuid);
     }
 
-    @Transactional(readOnly = true)
     public GamblingProjectionTransactionHistory findTransactionByUuidOrFail(String uuid) {
         String description = String.format("transaction history record by UUID '%s'", uuid);
         String attachmentNamePrefix = String.format("Wallet Transaction Record [UUID: %s]", uuid);
-        Supplier<Optional<GamblingProjectionTransactionHistory>> querySupplier = () ->
-                transactionRepository.findById(uuid);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitBatchedOrFail(description, attachmentNamePrefix, transactionLookup, uuid);
     }
 
-    @Transactional(readOnly = true)
     public PlayerThresholdWin findThresholdByPlayerUuidOrFail(String playerUuid) {
         String description = String.format("player threshold win record for player '%s'", playerUuid);
         String attachmentNamePrefix = String.format("Player Threshold Win [Player: %s]", playerUuid);
-        Supplier<Optional<PlayerThresholdWin>> querySupplier = () ->
-                playerThresholdWinRepository.findByPlayerUuid(playerUuid);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitBatchedOrFail(description, attachmentNamePrefix, thresholdWinLookup, playerUuid);
     }
 
-    @Transactional(readOnly = true)
     public PlayerThresholdDeposit findDepositThresholdByPlayerUuidOrFail(String playerUuid) {
         String description = String.format("player threshold deposit record for player '%s'", playerUuid);
         String attachmentNamePrefix = String.format("Player Threshold Deposit [Player: %s]", playerUuid);
         Supplier<Optional<PlayerThresholdDeposit>> querySupplier = () ->
                 playerThresholdDepositRepository.findByPlayerUuid(playerUuid);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitRowAndGetOrFail(description, attachmentNamePrefix,
+                "player_threshold_deposit", "player_uuid", playerUuid, querySupplier);
     }
 
-    @Transactional(readOnly = true)
     public WalletGameSession findSingleGameSessionByPlayerUuidOrFail(String playerUuid) {
         String description = String.format("single game session for player UUID '%s'", playerUuid);
         String attachmentNamePrefix = String.format("Wallet Game Session [PlayerUUID: %s]", playerUuid);
         Supplier<Optional<WalletGameSession>> querySupplier = () ->
                 walletGameSessionRepository.findByPlayerUuid(playerUuid);
-        return awaitAndGetOrFail(description, attachmentNamePrefix, querySupplier);
+        return awaitRowAndGetOrFail(description, attachmentNamePrefix,
+                "game_session", "player_uuid", playerUuid, querySupplier);
     }
 
-    @Transactional(readOnly = true)
     public Wallet findWalletByUuidOrFail(String walletUuid) {
         String description = String.format("wallet record by UUID '%s'", walletUuid);
         String attachmentPrefix = String.format("Wallet Record [UUID: %s]", walletUuid);
@@ -83,7 +89,6 @@ public class WalletDatabaseClient extends AbstractDatabaseClient {
         return awaitAndGetOrFail(description, attachmentPrefix, querySupplier);
     }
 
-    @Transactional(readOnly = true)
     public BettingProjectionIframeHistory findLatestIframeHistoryByUuidOrFail(String uuid) {
         String description = String.format("latest betting iframe history record by UUID '%s'", uuid);
         String attachmentNamePrefix = String.format("Betting Iframe History [UUID: %s, Latest]", uuid);
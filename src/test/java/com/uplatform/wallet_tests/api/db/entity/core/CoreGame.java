@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 
 @Entity
@@ -13,6 +15,8 @@ import java.util.Objects;
 @Setter
 @NoArgsConstructor
 @ToString
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "core-reference")
 public class CoreGame {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
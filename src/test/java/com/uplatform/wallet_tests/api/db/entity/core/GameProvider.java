@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.Objects;
 import java.util.List;
 import com.uplatform.wallet_tests.api.db.entity.core.converter.CurrenciesConverter;
@@ -15,6 +17,8 @@ import com.uplatform.wallet_tests.api.db.entity.core.converter.CurrenciesConvert
 @Setter
 @NoArgsConstructor
 @ToString
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "core-reference")
 public class GameProvider {
 
     @Id
@@ -0,0 +1,38 @@
+package com.uplatform.wallet_tests.api.db.repository.core;
+
+import com.testing.multisource.api.db.LazyJson;
+import com.testing.multisource.api.db.ReadOnlyJdbcQueries;
+import org.springframework.jdbc.core.RowMapper;
+
+public record CoreGameCategoryView(
+        Integer id,
+        String uuid,
+        String alias,
+        Integer statusId,
+        Integer sort,
+        String projectGroupUuid,
+        String parentUuid,
+        String type,
+        String entityType,
+        Integer isDefault,
+        LazyJson localizedNames
+) {
+    public static final String SELECT_BY_UUID =
+            "SELECT id, uuid, alias, status_id, sort, project_group_uuid, parent_uuid, type, entity_type, " +
+            "is_default, localized_names FROM game_category WHERE uuid = ?";
+
+    public static RowMapper<CoreGameCategoryView> rowMapper(ReadOnlyJdbcQueries queries) {
+        return (rs, rowNum) -> new CoreGameCategoryView(
+                rs.getObject("id", Integer.class),
+                rs.getString("uuid"),
+                rs.getString("alias"),
+                rs.getObject("status_id", Integer.class),
+                rs.getObject("sort", Integer.class),
+                rs.getString("project_group_uuid"),
+                rs.getString("parent_uuid"),
+                rs.getString("type"),
+                rs.getString("entity_type"),
+                rs.getObject("is_default", Integer.class),
+                queries.json(rs, "localized_names"));
+    }
+}
@@ -15,7 +15,7 @@ public class RedisConfig {
     @Bean
     public RedisTypeMappingRegistry redisTypeMappingRegistry() {
         return new RedisTypeMappingRegistry()
-                .register("wallet", new TypeReference<WalletFullData>() {})
+                .register("wallet", new TypeReference<WalletFullData>() {}, "LastSeqNumber")
                 .register("player", new TypeReference<Map<String, WalletData>>() {});
     }
 }
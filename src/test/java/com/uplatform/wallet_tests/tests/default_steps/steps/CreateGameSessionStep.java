@@ -1,5 +1,6 @@
 package com.uplatform.wallet_tests.tests.default_steps.steps;
 
+import com.testing.multisource.api.db.ReferenceDataCache;
 import com.uplatform.wallet_tests.api.db.WalletDatabaseClient;
 import com.uplatform.wallet_tests.api.db.entity.wallet.WalletGameSession;
 import com.uplatform.wallet_tests.api.http.fapi.client.FapiClient;
@@ -13,6 +14,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 
 import static io.qameta.allure.Allure.step;
@@ -23,9 +25,12 @@ import static org.junit.jupiter.api.Assertions.*;
 public class CreateGameSessionStep {
 
     private static final Random RANDOM = new Random();
+    private static final String GAMES_REGION = "fapi.games";
+    private static final String GAMES_PAGE = "page=1&perPage=5";
 
     private final FapiClient publicClient;
     private final WalletDatabaseClient walletDatabaseClient;
+    private final ReferenceDataCache referenceDataCache;
 
     private static final class TestContext {
         ResponseEntity<GetGamesResponseBody> gamesResponse;
@@ -44,11 +49,17 @@ public class CreateGameSessionStep {
         final TestContext ctx = new TestContext();
 
         step("1. Public API: Получение списка игр и выбор случайной", () -> {
-            ctx.gamesResponse = this.publicClient.getGames(1, 5);
+            Optional<ResponseEntity<GetGamesResponseBody>> cached =
+                    this.referenceDataCache.getIfPresent(GAMES_REGION, GAMES_PAGE);
+            ctx.gamesResponse = cached.orElseGet(() -> this.publicClient.getGames(1, 5));
             assertEquals(HttpStatus.OK, ctx.gamesResponse.getStatusCode(), "fapi.get_games.status_code");
             assertNotNull(ctx.gamesResponse.getBody(), "fapi.get_games.body_not_null");
             assertNotNull(ctx.gamesResponse.getBody().games(), "fapi.get_games.list_not_null");
             assertFalse(ctx.gamesResponse.getBody().games().isEmpty(), "fapi.get_games.list_not_empty");
+            // Only a fresh response is stored, so the entry still expires after the TTL.
+            if (cached.isEmpty()) {
+                this.referenceDataCache.put(GAMES_REGION, GAMES_PAGE, ctx.gamesResponse);
+            }
         });
 
         step("2. Public API: Запуск выбранной игры", () -> {
@@ -1,6 +1,6 @@
 package com.uplatform.wallet_tests.tests.platform.categories;
 
-import com.uplatform.wallet_tests.api.db.entity.core.CoreGameCategory;
+import com.uplatform.wallet_tests.api.db.repository.core.CoreGameCategoryView;
 import com.uplatform.wallet_tests.api.http.cap.dto.game_category.enums.CategoryType;
 import com.uplatform.wallet_tests.api.http.cap.dto.enums.LangEnum;
 import com.uplatform.wallet_tests.api.http.cap.dto.game_category.v1.*;
@@ -54,7 +54,7 @@ class GetCategoryTest extends BaseTest {
         DeleteCategoryRequest deleteCategoryRequest;
         ResponseEntity<Void> deleteGameCategoryResponse;
 
-        CoreGameCategory category;
+        CoreGameCategoryView category;
     }
 
     private final TestContext ctx = new TestContext();
@@ -90,10 +90,10 @@ class GetCategoryTest extends BaseTest {
 
         step("2. Предусловие. DB Category: проверка создания категории", () -> {
             ctx.category = coreDatabaseClient
-                    .findCategoryByUuidOrFail(ctx.createGameCategoryResponse.getBody().getId());
+                    .findCategoryViewByUuidOrFail(ctx.createGameCategoryResponse.getBody().getId());
 
             assertAll("Проверка записи в БД",
-                    () -> assertEquals(ctx.category.getUuid(), ctx.createGameCategoryResponse.getBody().getId(),
+                    () -> assertEquals(ctx.category.uuid(), ctx.createGameCategoryResponse.getBody().getId(),
                             "Uuid из ответа и в БД должны быть одинаковые")
             );
         });